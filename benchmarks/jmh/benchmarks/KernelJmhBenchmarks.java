@@ -0,0 +1,110 @@
+package benchmarks;
+
+import graph.algorithms.degrees.DegreeEngine;
+import graph.algorithms.degrees.Degrees;
+import graph.algorithms.paths.SimplePathEngine;
+import graph.graph.AdjacencyArrays;
+import graph.graph.GraphHelper;
+import graph.graph.GraphHelper.Degree;
+import graph.math.MatrixHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The kernels of {@link KernelBenchmarks} as JMH benchmarks, over the same inputs. Run with the GC profiler by
+ * <pre>gradle :benchmarks:jmh -PjmhArgs="multiply -p vertices=64,256 -p density=0.1"</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class KernelJmhBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Matrices {
+        @Param({"32", "128", "256"})
+        public int vertices;
+
+        @Param({"0.05", "0.2"})
+        public double density;
+
+        public int[][] matrix;
+        public AdjacencyArrays adjacency;
+
+        @Setup
+        public void setup() {
+            matrix = KernelBenchmarks.randomMatrix(vertices, density);
+            adjacency = AdjacencyArrays.ofWeightsMatrix(matrix);
+        }
+    }
+
+    /**
+     * The closure kernels are cubic or worse in the number of vertices, so they get smaller graphs.
+     */
+    @State(Scope.Benchmark)
+    public static class ClosureMatrices {
+        @Param({"16", "32", "64"})
+        public int vertices;
+
+        @Param({"0.05", "0.2"})
+        public double density;
+
+        public int[][] matrix;
+        public int[][] strongConnectivity;
+
+        @Setup
+        public void setup() {
+            matrix = KernelBenchmarks.randomMatrix(vertices, density);
+            strongConnectivity = GraphHelper.calculateMatrixOfStrongConnectivity(matrix);
+        }
+    }
+
+    @Benchmark
+    public int[][] multiply(Matrices state) {
+        return MatrixHelper.multiply(state.matrix, state.matrix);
+    }
+
+    @Benchmark
+    public int[][] pow3(Matrices state) {
+        return MatrixHelper.pow(state.matrix, 3);
+    }
+
+    @Benchmark
+    public HashMap<Integer, Degree> calculateDirectedGraphDegrees(Matrices state) {
+        return GraphHelper.calculateDirectedGraphDegrees(state.matrix);
+    }
+
+    @Benchmark
+    public Degrees degreeEngine(Matrices state) {
+        return DegreeEngine.compute(state.adjacency);
+    }
+
+    @Benchmark
+    public ArrayList<ArrayList<Integer>> allPathsWithLength2(Matrices state) {
+        return GraphHelper.allPathsWithLength2(state.matrix);
+    }
+
+    @Benchmark
+    public ArrayList<ArrayList<Integer>> allPathsWithLength3(Matrices state) {
+        return GraphHelper.allPathsWithLength3(state.matrix, GraphHelper.allPathsWithLength2(state.matrix));
+    }
+
+    @Benchmark
+    public long simplePathEngineCount3(Matrices state) {
+        return SimplePathEngine.count(state.adjacency, 3);
+    }
+
+    @Benchmark
+    public int[][] nonEfficientTransitiveClosure(ClosureMatrices state) {
+        return MatrixHelper.nonEfficientTransitiveClosure(state.matrix);
+    }
+
+    @Benchmark
+    public ArrayList<ArrayList<Integer>> listOfStronglyConnectedComponents(ClosureMatrices state) {
+        return GraphHelper.listOfStronglyConnectedComponents(state.strongConnectivity);
+    }
+}
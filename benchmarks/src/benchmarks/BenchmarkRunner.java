@@ -0,0 +1,159 @@
+package benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal benchmark harness in the spirit of JMH: warmup and measurement iterations of fixed duration,
+ * average time per operation, and the allocation and GC figures that the JMH GC profiler reports.
+ * The settings can be changed with the system properties bench.warmup, bench.iterations and bench.time (milliseconds).
+ * <p>
+ * The JMH benchmarks of the jmh source set ({@code gradle :benchmarks:jmh}) are the reference;
+ * this harness is the fallback for where the JMH artifacts cannot be downloaded.
+ * The allocation is counted over all live threads, so the kernels that fork to the common pool are measured too.
+ */
+public class BenchmarkRunner {
+
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("bench.warmup", 3);
+    private static final int MEASUREMENT_ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    private static final long ITERATION_TIME_NANOS = Long.getLong("bench.time", 500) * 1_000_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile int blackhole;
+
+    private final Pattern filter;
+    private final List<Result> results = new ArrayList<>();
+
+    /**
+     * @param filter The regular expression the names of the benchmarks to run must contain.
+     */
+    public BenchmarkRunner(String filter) {
+        this.filter = Pattern.compile(filter);
+    }
+
+    /**
+     * @param setup Creates the state of the benchmark, which is not measured.
+     * @param operation The measured operation. Its result is consumed, so it cannot be optimized away.
+     */
+    public <S> void run(String benchmark, String params, Callable<S> setup, Function<S, Object> operation) throws Exception {
+        if (!filter.matcher(benchmark).find())
+            return;
+
+        S state = setup.call();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            iteration(state, operation);
+
+        double[] scores = new double[MEASUREMENT_ITERATIONS];
+        long operations = 0;
+        long allocatedBytes = 0;
+        long gcCount = gcCount();
+        long gcTime = gcTime();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            long allocatedBefore = allocatedBytes();
+            long[] iteration = iteration(state, operation);
+            allocatedBytes += allocatedBytes() - allocatedBefore;
+
+            scores[i] = (double) iteration[1] / iteration[0] / 1_000;
+            operations += iteration[0];
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        var result = new Result(benchmark, params, scores,
+                (double) allocatedBytes / operations,
+                allocatedBytes / seconds / (1 << 20),
+                gcCount() - gcCount, gcTime() - gcTime);
+        results.add(result);
+        System.out.println(result);
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    /**
+     * @return The number of operations and the time they took.
+     */
+    private static <S> long[] iteration(S state, Function<S, Object> operation) {
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+
+        do {
+            consume(operation.apply(state));
+            operations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < ITERATION_TIME_NANOS);
+
+        return new long[] {operations, elapsed};
+    }
+
+    private static void consume(Object result) {
+        blackhole ^= System.identityHashCode(result);
+    }
+
+    /**
+     * @return The bytes allocated by all live threads so far. The bytes of threads that ended are lost,
+     * which does not matter for the workers of the common pool, as they outlive an iteration.
+     */
+    private static long allocatedBytes() {
+        long sum = 0;
+        for (long bytes : THREAD_BEAN.getThreadAllocatedBytes(THREAD_BEAN.getAllThreadIds())) {
+            if (bytes > 0)
+                sum += bytes;
+        }
+        return sum;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+
+    /**
+     * @param scores The average time of an operation in every measurement iteration, in microseconds.
+     * @param allocatedBytesPerOperation The same as gc.alloc.rate.norm of the JMH GC profiler.
+     * @param allocationRate The same as gc.alloc.rate of the JMH GC profiler, in MB/s.
+     */
+    public record Result(String benchmark, String params, double[] scores,
+                         double allocatedBytesPerOperation, double allocationRate, long gcCount, long gcTimeMillis) {
+
+        public double mean() {
+            double sum = 0;
+            for (double score : scores)
+                sum += score;
+            return sum / scores.length;
+        }
+
+        public double error() {
+            double mean = mean();
+            double sum = 0;
+            for (double score : scores)
+                sum += (score - mean) * (score - mean);
+            return scores.length > 1 ? Math.sqrt(sum / (scores.length - 1)) : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-46s %-28s %14.3f +- %10.3f us/op %14.1f B/op %10.1f MB/s %5d gc %6d ms",
+                    benchmark, params, mean(), error(), allocatedBytesPerOperation, allocationRate, gcCount, gcTimeMillis);
+        }
+    }
+}
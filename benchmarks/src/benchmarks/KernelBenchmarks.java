@@ -0,0 +1,104 @@
+package benchmarks;
+
+import graph.algorithms.degrees.DegreeEngine;
+import graph.algorithms.paths.SimplePathEngine;
+import graph.graph.AdjacencyArrays;
+import graph.graph.GraphHelper;
+import graph.math.MatrixHelper;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Benchmarks of the MatrixHelper and GraphHelper kernels over random directed graphs.
+ * Run with the benchmark names filter and the parameters, e.g.
+ * <pre>java -cp out/production/ASD2-Lab3:out/production/benchmarks benchmarks.KernelBenchmarks multiply -p vertices=64,256 -p density=0.1</pre>
+ * The matrices are generated with fixed seeds, so every run measures the same inputs.
+ */
+public class KernelBenchmarks {
+
+    private static final long SEED = 3320;
+
+    private static int[] vertexCounts = {32, 128, 256};
+    private static int[] closureVertexCounts = {16, 32, 64};
+    private static double[] densities = {0.05, 0.2};
+
+    public static void main(String[] args) throws Exception {
+        String filter = "";
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-p"))
+                parseParameter(args[++i]);
+            else
+                filter = args[i];
+        }
+
+        var runner = new BenchmarkRunner(filter);
+        for (double density : densities) {
+            for (int vertices : vertexCounts)
+                runMatrixKernels(runner, vertices, density);
+            for (int vertices : closureVertexCounts)
+                runClosureKernels(runner, vertices, density);
+        }
+    }
+
+    private static void runMatrixKernels(BenchmarkRunner runner, int vertices, double density) throws Exception {
+        String params = params(vertices, density);
+
+        runner.run("MatrixHelper.multiply", params, () -> randomMatrix(vertices, density),
+                matrix -> MatrixHelper.multiply(matrix, matrix));
+        runner.run("MatrixHelper.pow3", params, () -> randomMatrix(vertices, density),
+                matrix -> MatrixHelper.pow(matrix, 3));
+        runner.run("GraphHelper.calculateDirectedGraphDegrees", params, () -> randomMatrix(vertices, density),
+                GraphHelper::calculateDirectedGraphDegrees);
+        runner.run("DegreeEngine.compute", params, () -> AdjacencyArrays.ofWeightsMatrix(randomMatrix(vertices, density)),
+                DegreeEngine::compute);
+        runner.run("GraphHelper.allPathsWithLength2", params, () -> randomMatrix(vertices, density),
+                GraphHelper::allPathsWithLength2);
+        runner.run("GraphHelper.allPathsWithLength3", params, () -> randomMatrix(vertices, density),
+                matrix -> GraphHelper.allPathsWithLength3(matrix, GraphHelper.allPathsWithLength2(matrix)));
+        runner.run("SimplePathEngine.count3", params, () -> AdjacencyArrays.ofWeightsMatrix(randomMatrix(vertices, density)),
+                adjacency -> SimplePathEngine.count(adjacency, 3));
+    }
+
+    private static void runClosureKernels(BenchmarkRunner runner, int vertices, double density) throws Exception {
+        String params = params(vertices, density);
+
+        runner.run("MatrixHelper.nonEfficientTransitiveClosure", params, () -> randomMatrix(vertices, density),
+                MatrixHelper::nonEfficientTransitiveClosure);
+        runner.run("GraphHelper.listOfStronglyConnectedComponents", params,
+                () -> GraphHelper.calculateMatrixOfStrongConnectivity(randomMatrix(vertices, density)),
+                GraphHelper::listOfStronglyConnectedComponents);
+    }
+
+    /**
+     * Generates the matrix the same way Graph does: a random matrix multiplied by a coefficient
+     * and transformed to a boolean one. The coefficient is chosen to get the requested density.
+     */
+    public static int[][] randomMatrix(int vertices, double density) {
+        Random random = new Random(SEED + vertices);
+        double k = 1.0 / (2.0 * (1.0 - density));
+        double[][] randomMatrix = new double[vertices][vertices];
+
+        for (int i = 0; i < vertices; i++) {
+            for (int j = 0; j < vertices; j++)
+                randomMatrix[i][j] = k * random.nextDouble(2.0);
+        }
+
+        return MatrixHelper.booleanTransform(randomMatrix);
+    }
+
+    private static String params(int vertices, double density) {
+        return "vertices=" + vertices + " density=" + density;
+    }
+
+    private static void parseParameter(String parameter) {
+        String[] pair = parameter.split("=", 2);
+        String[] values = pair[1].split(",");
+
+        switch (pair[0]) {
+            case "vertices" -> vertexCounts = closureVertexCounts = Arrays.stream(values).mapToInt(Integer::parseInt).toArray();
+            case "density" -> densities = Arrays.stream(values).mapToDouble(Double::parseDouble).toArray();
+            default -> throw new IllegalArgumentException("Unknown parameter: " + pair[0]);
+        }
+    }
+}
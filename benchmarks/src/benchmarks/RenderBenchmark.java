@@ -0,0 +1,150 @@
+package benchmarks;
+
+import graph.edges.EdgeGeometry;
+import graph.graph.Graph;
+import graph.graph.RenderSnapshot;
+import main.AwtColors;
+import main.EdgePainter;
+import main.GraphCanvas;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Headless benchmark of painting a Graph with GraphCanvas into an offscreen image.
+ * Prints one JSON object per line for every configuration: frames per second, the cost of painting
+ * every edge type and the bytes allocated per frame. Run e.g. with
+ * <pre>java -cp out/production/ASD2-Lab3:out/production/ui:out/production/benchmarks benchmarks.RenderBenchmark -p vertices=12,100 -p density=0.1 -o render.jsonl</pre>
+ * The duration of every measurement is set by the system property bench.time in milliseconds.
+ */
+public class RenderBenchmark {
+
+    private static final int WIDTH = 1600;
+    private static final int HEIGHT = 900;
+    private static final int WARMUP_FRAMES = 50;
+    private static final long MEASUREMENT_NANOS = Long.getLong("bench.time", 1000) * 1_000_000;
+
+    private static int[] vertexCounts = {12, 50, 200};
+    private static double[] densities = {0.1, 0.3};
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        String output = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-p"))
+                parseParameter(args[++i]);
+            else if (args[i].equals("-o"))
+                output = args[++i];
+        }
+
+        try (var out = output == null ? new PrintWriter(System.out, true) : new PrintWriter(new FileWriter(output, true), true)) {
+            for (int vertices : vertexCounts) {
+                for (double density : densities) {
+                    var canvas = new GraphCanvas(new Graph(vertices, 1.0 / (2.0 * (1.0 - density))));
+                    out.println(measure(canvas, "weightedUndirected", vertices, density));
+                    canvas.getGraph().switchEdges();
+                    out.println(measure(canvas, "directed", vertices, density));
+                }
+            }
+        }
+    }
+
+    private static String measure(GraphCanvas canvas, String edgeSet, int vertices, double density) throws Exception {
+        canvas.updateGeometry().get();
+        canvas.setSize(WIDTH, HEIGHT);
+
+        var image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        var g = image.createGraphics();
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP_FRAMES; i++)
+            paintFrame(canvas, g);
+
+        long frames = 0;
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            paintFrame(canvas, g);
+            frames++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASUREMENT_NANOS);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        var geometry = canvas.getGeometry();
+        var edgeTypes = groupByEdgeType(geometry);
+        var edgeCounts = new StringJoiner(",", "{", "}");
+        var nanosPerEdge = new StringJoiner(",", "{", "}");
+        for (var type : edgeTypes.entrySet()) {
+            edgeCounts.add(String.format(Locale.ROOT, "\"%s\":%d", type.getKey(), type.getValue().length));
+            nanosPerEdge.add(String.format(Locale.ROOT, "\"%s\":%.1f", type.getKey(), measureEdgeType(geometry, type.getValue(), canvas.getGraph(), g)));
+        }
+        g.dispose();
+
+        return String.format(Locale.ROOT,
+                "{\"benchmark\":\"render\",\"vertices\":%d,\"density\":%s,\"edgeSet\":\"%s\",\"edges\":%s,"
+                        + "\"frames\":%d,\"fps\":%.2f,\"frameNanos\":%.0f,\"nanosPerEdge\":%s,\"bytesPerFrame\":%.0f}",
+                vertices, density, edgeSet, edgeCounts, frames, frames / (elapsed / 1e9),
+                (double) elapsed / frames, nanosPerEdge, (double) allocated / frames);
+    }
+
+    private static void paintFrame(GraphCanvas canvas, Graphics2D g) {
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, WIDTH, HEIGHT);
+        canvas.paint(g);
+    }
+
+    /**
+     * Paints only the edges of one type over and over.
+     * @return The average time of painting one edge.
+     */
+    private static double measureEdgeType(EdgeGeometry geometry, int[] indexes, Graph graph, Graphics2D g) {
+        RenderSnapshot snapshot = graph.getRenderBuffer().front();
+        long painted = 0;
+        long start = System.nanoTime();
+        long elapsed;
+
+        do {
+            for (int index : indexes) {
+                var edge = geometry.getEdge(index);
+                EdgePainter.paint(g, edge, geometry.getState(index), AwtColors.of(snapshot.getEdgeColor(edge.getId())));
+            }
+            painted += indexes.length;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASUREMENT_NANOS / 4);
+
+        return (double) elapsed / painted;
+    }
+
+    private static LinkedHashMap<String, int[]> groupByEdgeType(EdgeGeometry geometry) {
+        var types = new LinkedHashMap<String, ArrayList<Integer>>();
+        for (int i = 0; i < geometry.size(); i++)
+            types.computeIfAbsent(geometry.getState(i).getClass().getSimpleName(), type -> new ArrayList<>()).add(i);
+
+        var indexes = new LinkedHashMap<String, int[]>();
+        types.forEach((type, list) -> indexes.put(type, list.stream().mapToInt(Integer::intValue).toArray()));
+        return indexes;
+    }
+
+    private static void parseParameter(String parameter) {
+        String[] pair = parameter.split("=", 2);
+        String[] values = pair[1].split(",");
+
+        switch (pair[0]) {
+            case "vertices" -> vertexCounts = Arrays.stream(values).mapToInt(Integer::parseInt).toArray();
+            case "density" -> densities = Arrays.stream(values).mapToDouble(Double::parseDouble).toArray();
+            default -> throw new IllegalArgumentException("Unknown parameter: " + pair[0]);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package benchmarks;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import graph.algorithms.BFSAlgorithm;
+import graph.algorithms.DFSAlgorithm;
+import graph.algorithms.KruskalAlgorithm;
+import graph.algorithms.StepController;
+import graph.edges.Edge;
+import graph.edges.EdgeGeometryPipeline;
+import graph.graph.Graph;
+import graph.graph.GraphHelper;
+import graph.graph.RenderBuffer;
+import main.GraphCanvas;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.FileWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end scale test: generates graphs of growing size with the Graph generator and runs
+ * load, layout, BFS, DFS, MST, SCC and rendering on each of them. Every stage reports its wall time,
+ * peak heap and GC pauses as a JSON line, and fails when it takes longer than its budget.
+ * <p>
+ * The budget of a stage is given in nanoseconds per edge and is never less than bench.minBudget milliseconds.
+ * A stage that runs longer than bench.timeoutFactor budgets is interrupted and is not run for bigger graphs.
+ * Stages that do not react to the interruption (the matrix kernels) stop the whole run,
+ * because the abandoned thread would distort the measurements of everything after it.
+ * The process exits with status 1 if any stage failed. Run e.g. with
+ * <pre>java -Xmx8g -cp out/production/ASD2-Lab3:out/production/ui:out/production/benchmarks benchmarks.ScaleBenchmark -p edges=1000,100000 -b bfs=500 -o scale.jsonl</pre>
+ */
+public class ScaleBenchmark {
+
+    private static final long MIN_BUDGET_MILLIS = Long.getLong("bench.minBudget", 1000);
+    private static final int TIMEOUT_FACTOR = Integer.getInteger("bench.timeoutFactor", 4);
+    private static final int WIDTH = 1600;
+    private static final int HEIGHT = 900;
+
+    private static final String[] STAGES = {"load", "layout", "bfs", "dfs", "mst", "scc", "render"};
+
+    private static long[] edgeCounts = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    private static double density = 0.1;
+    private static final Map<String, Long> budgets = new LinkedHashMap<>(Map.of(
+            "load", 2_000L,
+            "layout", 5_000L,
+            "bfs", 1_000L,
+            "dfs", 1_000L,
+            "mst", 5_000L,
+            "scc", 5_000L,
+            "render", 10_000L
+    ));
+
+    private static final GcPauses gcPauses = new GcPauses();
+    private static final Set<String> timedOutStages = new HashSet<>();
+    private static boolean aborted = false;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        String output = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-p" -> parseParameter(args[++i]);
+                case "-b" -> parseBudget(args[++i]);
+                case "-o" -> output = args[++i];
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        gcPauses.install();
+        boolean failed = false;
+        try (var out = output == null ? new PrintWriter(System.out, true) : new PrintWriter(new FileWriter(output, true), true)) {
+            for (long edges : edgeCounts) {
+                failed |= runSize(out, edges);
+                if (aborted)
+                    break;
+            }
+        }
+
+        System.exit(failed ? 1 : 0);
+    }
+
+    /**
+     * @return Whether any stage failed.
+     */
+    private static boolean runSize(PrintWriter out, long edges) {
+        int vertices = (int) Math.max(2, Math.round(Math.sqrt(edges / density)));
+        double k = 1.0 / (2.0 * (1.0 - density));
+        var context = new Object() {
+            Graph graph;
+        };
+
+        Map<String, Callable<Object>> stages = new LinkedHashMap<>();
+        stages.put("load", () -> context.graph = new Graph(vertices, k));
+        stages.put("layout", () -> EdgeGeometryPipeline.computeNow(context.graph.getCurrentEdges().toArray(new Edge[0])));
+        stages.put("bfs", () -> new BFSAlgorithm(context.graph, GraphHelper.getStartVertex(context.graph).getNumber(),
+                newRenderBuffer(context.graph), StepController.freeRunning()).call());
+        stages.put("dfs", () -> new DFSAlgorithm(context.graph, GraphHelper.getStartVertex(context.graph).getNumber(),
+                newRenderBuffer(context.graph), StepController.freeRunning()).call());
+        stages.put("mst", () -> new KruskalAlgorithm(context.graph, newRenderBuffer(context.graph), StepController.freeRunning()).call());
+        stages.put("scc", () -> GraphHelper.listOfStronglyConnectedComponents(
+                GraphHelper.calculateMatrixOfStrongConnectivity(context.graph.getDirectedGraphMatrix())));
+        stages.put("render", () -> render(context.graph));
+
+        boolean failed = false;
+        boolean loaded = true;
+        for (String stage : STAGES) {
+            long budgetMillis = Math.max(MIN_BUDGET_MILLIS, budgets.get(stage) * edges / 1_000_000);
+            StageResult result;
+
+            if (aborted || !loaded || timedOutStages.contains(stage))
+                result = StageResult.skipped(stage);
+            else
+                result = runStage(stage, stages.get(stage), budgetMillis);
+
+            if (stage.equals("load") && !result.status().equals("OK") && !result.status().equals("OVER_BUDGET"))
+                loaded = false;
+            if (result.status().equals("TIMEOUT"))
+                timedOutStages.add(stage);
+            failed |= !result.status().equals("OK") && !result.status().equals("SKIPPED");
+
+            out.println(result.toJson(edges, vertices, budgetMillis,
+                    context.graph == null ? 0 : context.graph.getDirectedEdges().size()));
+        }
+
+        return failed;
+    }
+
+    private static StageResult runStage(String stage, Callable<Object> task, long budgetMillis) {
+        System.gc();
+        var heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        gcPauses.reset();
+
+        var future = new FutureTask<>(task);
+        long start = System.nanoTime();
+        var thread = Thread.ofVirtual().start(future);
+
+        String status;
+        String error = null;
+        try {
+            future.get(budgetMillis * TIMEOUT_FACTOR, TimeUnit.MILLISECONDS);
+            status = "OK";
+        } catch (TimeoutException e) {
+            thread.interrupt();
+            status = "TIMEOUT";
+        } catch (ExecutionException e) {
+            status = "FAILED";
+            error = e.getCause().toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = "FAILED";
+            error = e.toString();
+        }
+        long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+        if (status.equals("TIMEOUT") && !awaitTermination(thread, budgetMillis * TIMEOUT_FACTOR)) {
+            aborted = true;
+            error = "the stage ignored the interruption, the run is aborted";
+        }
+
+        if (status.equals("OK") && wallMillis > budgetMillis)
+            status = "OVER_BUDGET";
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new StageResult(stage, status, wallMillis, peakHeap,
+                gcPauses.count.get(), gcPauses.totalMillis.get(), gcPauses.maxMillis.get(), error);
+    }
+
+    private static boolean awaitTermination(Thread thread, long millis) {
+        try {
+            return thread.join(Duration.ofMillis(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static RenderBuffer newRenderBuffer(Graph graph) {
+        return new RenderBuffer(graph.getRenderBuffer().front().cleared());
+    }
+
+    private static Object render(Graph graph) throws Exception {
+        var canvas = new GraphCanvas(graph);
+        canvas.setSize(WIDTH, HEIGHT);
+        canvas.updateGeometry().get();
+
+        var image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        var g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, WIDTH, HEIGHT);
+        canvas.paint(g);
+        g.dispose();
+
+        return image;
+    }
+
+    private static void parseParameter(String parameter) {
+        String[] pair = parameter.split("=", 2);
+
+        switch (pair[0]) {
+            case "edges" -> edgeCounts = Arrays.stream(pair[1].split(",")).mapToLong(Long::parseLong).toArray();
+            case "density" -> density = Double.parseDouble(pair[1]);
+            default -> throw new IllegalArgumentException("Unknown parameter: " + pair[0]);
+        }
+    }
+
+    private static void parseBudget(String budget) {
+        String[] pair = budget.split("=", 2);
+        if (!budgets.containsKey(pair[0]))
+            throw new IllegalArgumentException("Unknown stage: " + pair[0]);
+        budgets.put(pair[0], Long.parseLong(pair[1]));
+    }
+
+
+    /**
+     * Collects the pauses of all the collectors from the GC notifications.
+     */
+    private static class GcPauses {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong totalMillis = new AtomicLong();
+        final AtomicLong maxMillis = new AtomicLong();
+
+        void install() {
+            NotificationListener listener = (notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION))
+                    return;
+                var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                long duration = info.getGcInfo().getDuration();
+                count.incrementAndGet();
+                totalMillis.addAndGet(duration);
+                maxMillis.accumulateAndGet(duration, Math::max);
+            };
+
+            for (var collector : ManagementFactory.getGarbageCollectorMXBeans())
+                ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+        }
+
+        void reset() {
+            count.set(0);
+            totalMillis.set(0);
+            maxMillis.set(0);
+        }
+    }
+
+    private record StageResult(String stage, String status, long wallMillis, long peakHeapBytes,
+                               long gcCount, long gcMillis, long maxGcPauseMillis, String error) {
+
+        static StageResult skipped(String stage) {
+            return new StageResult(stage, "SKIPPED", 0, 0, 0, 0, 0, null);
+        }
+
+        String toJson(long edges, int vertices, long budgetMillis, int actualEdges) {
+            return String.format(Locale.ROOT,
+                    "{\"benchmark\":\"scale\",\"edges\":%d,\"vertices\":%d,\"actualEdges\":%d,\"stage\":\"%s\",\"status\":\"%s\","
+                            + "\"wallMillis\":%d,\"budgetMillis\":%d,\"peakHeapBytes\":%d,\"gcCount\":%d,\"gcMillis\":%d,\"maxGcPauseMillis\":%d%s}",
+                    edges, vertices, actualEdges, stage, status, wallMillis, budgetMillis, peakHeapBytes,
+                    gcCount, gcMillis, maxGcPauseMillis,
+                    error == null ? "" : ",\"error\":\"" + error.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package graph.algorithms;
+
+import graph.algorithms.paths.AStarEngine;
+import graph.algorithms.paths.EuclideanHeuristic;
+import graph.algorithms.paths.PathResult;
+import graph.algorithms.paths.SearchVisitor;
+import graph.graph.AdjacencyArrays;
+import graph.graph.Graph;
+import graph.graph.RenderBuffer;
+
+/**
+ * Shows the bidirectional A* search between two vertices on the weighted undirected edges.
+ * The frontier is streamed as it grows: an edge that improves a distance is shown as active,
+ * the edge that settles a vertex as visited, and the found path is added to the tree at the end.
+ */
+public class AStarAlgorithm extends Algorithm {
+
+    private final int source;
+    private final int target;
+    private PathResult path;
+
+    public AStarAlgorithm(Graph graph, int source, int target) {
+        this(graph, source, target, graph.getRenderBuffer(), new StepController());
+    }
+
+    public AStarAlgorithm(Graph graph, int source, int target, RenderBuffer renderBuffer, StepController controller) {
+        super(graph, renderBuffer, controller);
+        this.source = source;
+        this.target = target;
+    }
+
+    @Override
+    protected void runAlgorithm(Graph graph) {
+        var adjacency = AdjacencyArrays.weightedUndirected(graph);
+        var heuristic = EuclideanHeuristic.of(graph.getVertices(), adjacency);
+
+        path = AStarEngine.findPath(adjacency, heuristic, source, target, new SearchVisitor() {
+            @Override
+            public void arcExamined(int from, int to, int edgeId, boolean improved) {
+                if (improved)
+                    setActive(graph.getEdge(edgeId));
+            }
+
+            @Override
+            public void vertexSettled(int vertex, int edgeId) {
+                if (edgeId >= 0)
+                    setVisited(graph.getEdge(edgeId));
+            }
+        });
+
+        for (int edgeId : path.getEdgeIds())
+            setAddedToTree(graph.getEdge(edgeId));
+    }
+
+    /**
+     * @return The found path and the number of expanded vertices, or null if the algorithm has not finished.
+     */
+    public PathResult getPath() {
+        return path;
+    }
+}
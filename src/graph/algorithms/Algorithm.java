@@ -1,21 +1,69 @@
 package graph.algorithms;
 
 import graph.edges.Edge;
-import graph.edges.WeightedEdge;
-import main.View;
+import graph.graph.Colors;
+import graph.graph.Graph;
+import graph.graph.RenderBuffer;
+import graph.jfr.AlgorithmStepEvent;
+import graph.metrics.LatencyHistogram;
+import graph.metrics.Metrics;
 
-import javax.swing.*;
-import java.awt.*;
 import java.util.HashSet;
-import java.util.concurrent.CountDownLatch;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 
-public abstract class Algorithm extends SwingWorker<Void, Void> {
+/**
+ * The base of the visualized algorithms. Every step is published to the render buffer,
+ * recorded in the timeline and then waits for the step controller.
+ * An algorithm instance runs once, on any thread, e.g. with {@link AlgorithmExecutor}.
+ */
+public abstract class Algorithm implements Callable<AlgorithmTimeline> {
 
-    public static volatile CountDownLatch latch;
-    protected View view;
+    private static final LatencyHistogram STEP_LATENCY = Metrics.histogram(Metrics.ALGORITHM_STEP);
 
-    public Algorithm(View view) {
-        this.view = view;
+    protected final Graph graph;
+    protected final RenderBuffer renderBuffer;
+    protected final StepController controller;
+    protected final AlgorithmTimeline timeline;
+
+    public Algorithm(Graph graph) {
+        this(graph, graph.getRenderBuffer(), new StepController());
+    }
+
+    /**
+     * @param renderBuffer The buffer to publish the steps to. Algorithms running at the same time
+     *                     on the same graph must have different buffers.
+     */
+    public Algorithm(Graph graph, RenderBuffer renderBuffer, StepController controller) {
+        this.graph = graph;
+        this.renderBuffer = renderBuffer;
+        this.controller = controller;
+        timeline = new AlgorithmTimeline(graph, renderBuffer);
+    }
+
+    /**
+     * @return The recording of all the steps made.
+     */
+    @Override
+    public AlgorithmTimeline call() {
+        renderBuffer.clear();
+        runAlgorithm(graph);
+        return timeline;
+    }
+
+    protected abstract void runAlgorithm(Graph graph);
+
+    public Graph getGraph() {
+        return graph;
+    }
+
+    public StepController getController() {
+        return controller;
+    }
+
+    public AlgorithmTimeline getTimeline() {
+        return timeline;
     }
 
     protected Edge getEdge(HashSet<Edge> edges, int vertex1, int vertex2) {
@@ -26,33 +74,65 @@ public abstract class Algorithm extends SwingWorker<Void, Void> {
     }
 
     protected void pause() {
-        latch = new CountDownLatch(1);
         try {
-            latch.await(); // Ждем, пока счетчик не станет нулем
+            controller.awaitStep();
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
         }
     }
 
     protected void setActive(Edge edge) {
-        setVerticesColor(edge, Color.RED);
-        edge.setColor(Color.RED);
+        long start = System.nanoTime();
+        var event = new AlgorithmStepEvent();
+        event.begin();
+        setVerticesColor(edge, Colors.RED);
+        setEdgeColor(edge, Colors.RED);
         setActiveAdditional(edge);
-        pause();
+        timeline.record(AlgorithmTimeline.ACTIVE, edge, Colors.RED, Colors.RED);
+        publishAndPause(start, event, "active", edge);
     }
 
     protected void setVisited(Edge edge) {
-        setVerticesColor(edge, Color.BLUE);
-        edge.setColor(Color.BLACK);
+        long start = System.nanoTime();
+        var event = new AlgorithmStepEvent();
+        event.begin();
+        setVerticesColor(edge, Colors.BLUE);
+        setEdgeColor(edge, Colors.BLACK);
         setVisitedAdditional(edge);
-        pause();
+        timeline.record(AlgorithmTimeline.VISITED, edge, Colors.BLUE, Colors.BLACK);
+        publishAndPause(start, event, "visited", edge);
     }
 
     protected void setAddedToTree(Edge edge) {
-        setVerticesColor(edge, Color.BLUE);
-        edge.setColor(Color.BLUE);
+        long start = System.nanoTime();
+        var event = new AlgorithmStepEvent();
+        event.begin();
+        setVerticesColor(edge, Colors.BLUE);
+        setEdgeColor(edge, Colors.BLUE);
         setAddedToTreeAdditional(edge);
-        pause();
+        timeline.record(AlgorithmTimeline.ADDED_TO_TREE, edge, Colors.BLUE, Colors.BLUE);
+        publishAndPause(start, event, "addedToTree", edge);
+    }
+
+    /**
+     * Adds all the edges to the tree in one step, e.g. a whole level of a breadth-first search.
+     * Every edge is still recorded in the timeline on its own.
+     */
+    protected void setAddedToTree(List<Edge> edges) {
+        if (edges.isEmpty())
+            return;
+
+        long start = System.nanoTime();
+        var event = new AlgorithmStepEvent();
+        event.begin();
+        for (var edge : edges) {
+            setVerticesColor(edge, Colors.BLUE);
+            setEdgeColor(edge, Colors.BLUE);
+            setAddedToTreeAdditional(edge);
+            timeline.record(AlgorithmTimeline.ADDED_TO_TREE, edge, Colors.BLUE, Colors.BLUE);
+        }
+        publishAndPause(start, event, "addedToTree", edges.get(edges.size() - 1));
     }
 
     protected void setActiveAdditional(Edge edge) {
@@ -62,8 +142,31 @@ public abstract class Algorithm extends SwingWorker<Void, Void> {
     protected void setAddedToTreeAdditional(Edge edge) {
     }
 
-    private void setVerticesColor(Edge edge, Color color) {
-        edge.getVertex1().setFillColor(color);
-        edge.getVertex2().setFillColor(color);
+    /**
+     * All the colors of a step become visible to the renderer at once.
+     * The step event and latency end before the wait for the controller.
+     */
+    private void publishAndPause(long start, AlgorithmStepEvent event, String step, Edge edge) {
+        renderBuffer.publish();
+        STEP_LATENCY.recordSince(start);
+        if (event.shouldCommit()) {
+            event.algorithm = getClass().getSimpleName();
+            event.step = step;
+            event.edgeId = edge.getId();
+            event.edgeType = edge.getClass().getSimpleName();
+            event.vertex1 = edge.getVertex1().getNumber();
+            event.vertex2 = edge.getVertex2().getNumber();
+            event.commit();
+        }
+        pause();
+    }
+
+    private void setVerticesColor(Edge edge, int color) {
+        renderBuffer.setVertexColor(edge.getVertex1().getNumber(), color);
+        renderBuffer.setVertexColor(edge.getVertex2().getNumber(), color);
+    }
+
+    private void setEdgeColor(Edge edge, int color) {
+        renderBuffer.setEdgeColor(edge.getId(), color);
     }
 }
@@ -0,0 +1,93 @@
+package graph.algorithms;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Runs every algorithm on its own virtual thread, so any number of them can wait for their steps at the same time.
+ */
+public class AlgorithmExecutor implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @return The future of the algorithm. Cancelling it with interruption stops the algorithm at its next step.
+     */
+    public Future<AlgorithmTimeline> submit(Algorithm algorithm) {
+        return executor.submit(algorithm);
+    }
+
+    /**
+     * Stops all the running algorithms.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs all the tasks at once, each on its own virtual thread, and returns only when all of them have finished.
+     * A failed task does not affect the others, its exception is returned in its result.
+     * If the calling thread is interrupted, all the tasks are interrupted too.
+     * @return The results in the order of the tasks.
+     */
+    public static <T> List<TaskResult<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        long batchStart = System.nanoTime();
+        List<Future<TaskResult<T>>> futures = new ArrayList<>(tasks.size());
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var task : tasks)
+                futures.add(executor.submit(() -> runTimed(task, batchStart)));
+
+            List<TaskResult<T>> results = new ArrayList<>(tasks.size());
+            try {
+                for (var future : futures)
+                    results.add(getResult(future));
+            } catch (InterruptedException e) {
+                // get() cleared the interrupt, and close() would wait for the tasks without interrupting them.
+                executor.shutdownNow();
+                throw e;
+            }
+
+            return results;
+        }
+    }
+
+    private static <T> TaskResult<T> runTimed(Callable<T> task, long batchStart) {
+        long start = System.nanoTime();
+        T result = null;
+        Throwable failure = null;
+
+        try {
+            result = task.call();
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        long end = System.nanoTime();
+        return new TaskResult<>(result, failure, start - batchStart, end - start);
+    }
+
+    private static <T> TaskResult<T> getResult(Future<TaskResult<T>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new TaskResult<>(null, e.getCause(), 0, 0);
+        }
+    }
+
+
+    /**
+     * @param result The value returned by the task, or null if it failed.
+     * @param failure The exception thrown by the task, or null if it succeeded.
+     * @param startNanos The time from the start of the batch to the start of the task.
+     * @param durationNanos The time the task was running.
+     */
+    public record TaskResult<T>(T result, Throwable failure, long startNanos, long durationNanos) {
+        public boolean isSuccessful() {
+            return failure == null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package graph.algorithms;
+
+import graph.edges.Edge;
+import graph.graph.Graph;
+import graph.graph.RenderBuffer;
+import graph.graph.RenderSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Recording of the steps of an algorithm that can be replayed from any step.
+ * Every step is packed into one long: the kind, the palette indexes of the vertex and edge colors and the edge id.
+ * The full color state is saved as a keyframe once in a while, so seeking restores the nearest
+ * keyframe and replays only the steps after it.
+ */
+public class AlgorithmTimeline {
+
+    public static final byte ACTIVE = 0;
+    public static final byte VISITED = 1;
+    public static final byte ADDED_TO_TREE = 2;
+
+    private static final int MIN_KEYFRAME_INTERVAL = 1024;
+    private static final int ELEMENTS_PER_KEYFRAME_STEP = 64;
+    private static final int MAX_PALETTE_SIZE = 256;
+
+    private final Graph graph;
+    private final int defaultVertexColor;
+    private final int defaultEdgeColor;
+    private final int keyframeInterval;
+
+    private int[] palette = new int[8];
+    private int paletteSize = 0;
+    private final HashMap<Integer, Integer> paletteIndexes = new HashMap<>();
+
+    private long[] events = new long[MIN_KEYFRAME_INTERVAL];
+    private int stepCount = 0;
+    private final ArrayList<byte[]> vertexKeyframes = new ArrayList<>();
+    private final ArrayList<byte[]> edgeKeyframes = new ArrayList<>();
+    private final byte[] vertexColors;
+    private final byte[] edgeColors;
+
+    public AlgorithmTimeline(Graph graph, RenderBuffer renderBuffer) {
+        this.graph = graph;
+        var initial = renderBuffer.front();
+        defaultVertexColor = initial.getDefaultVertexColor();
+        defaultEdgeColor = initial.getDefaultEdgeColor();
+
+        vertexColors = new byte[initial.getNumberOfVertices()];
+        edgeColors = new byte[initial.getNumberOfEdges()];
+        Arrays.fill(vertexColors, paletteIndex(defaultVertexColor));
+        Arrays.fill(edgeColors, paletteIndex(defaultEdgeColor));
+
+        keyframeInterval = Math.max(MIN_KEYFRAME_INTERVAL, (vertexColors.length + edgeColors.length) / ELEMENTS_PER_KEYFRAME_STEP);
+        saveKeyframe();
+    }
+
+    /**
+     * Records one step: both vertices of the edge get the vertex color and the edge gets the edge color.
+     */
+    public synchronized void record(byte kind, Edge edge, int vertexColor, int edgeColor) {
+        if (stepCount == events.length)
+            events = Arrays.copyOf(events, 2 * events.length);
+
+        long event = (long) kind << 56
+                | (long) (paletteIndex(vertexColor) & 0xFF) << 48
+                | (long) (paletteIndex(edgeColor) & 0xFF) << 40
+                | (edge.getId() & 0xFFFFFFFFL);
+        events[stepCount++] = event;
+        apply(event, vertexColors, edgeColors);
+
+        if (stepCount % keyframeInterval == 0)
+            saveKeyframe();
+    }
+
+    public synchronized int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * @param step The step to get, starting from zero.
+     */
+    public synchronized byte getKind(int step) {
+        return (byte) (events[step] >>> 56);
+    }
+
+    public synchronized int getEdgeId(int step) {
+        return (int) events[step];
+    }
+
+    /**
+     * @param step The number of steps made, from 0 to {@link #getStepCount()}.
+     * @return The colors after the given number of steps.
+     */
+    public synchronized RenderSnapshot seek(int step) {
+        step = Math.max(0, Math.min(step, stepCount));
+        int keyframe = step / keyframeInterval;
+
+        byte[] vertices = vertexKeyframes.get(keyframe).clone();
+        byte[] edges = edgeKeyframes.get(keyframe).clone();
+        for (int i = keyframe * keyframeInterval; i < step; i++)
+            apply(events[i], vertices, edges);
+
+        return RenderSnapshot.fromPalette(Arrays.copyOf(palette, paletteSize), vertices, edges, defaultVertexColor, defaultEdgeColor);
+    }
+
+    private void apply(long event, byte[] vertices, byte[] edges) {
+        byte vertexColor = (byte) (event >>> 48);
+        byte edgeColor = (byte) (event >>> 40);
+        int id = (int) event;
+        var edge = graph.getEdge(id);
+
+        vertices[edge.getVertex1().getNumber()] = vertexColor;
+        vertices[edge.getVertex2().getNumber()] = vertexColor;
+        edges[id] = edgeColor;
+    }
+
+    private void saveKeyframe() {
+        vertexKeyframes.add(vertexColors.clone());
+        edgeKeyframes.add(edgeColors.clone());
+    }
+
+    private byte paletteIndex(int color) {
+        Integer index = paletteIndexes.get(color);
+        if (index == null) {
+            if (paletteSize == MAX_PALETTE_SIZE)
+                throw new IllegalStateException("The timeline supports at most " + MAX_PALETTE_SIZE + " colors");
+            if (paletteSize == palette.length)
+                palette = Arrays.copyOf(palette, 2 * palette.length);
+            index = paletteSize++;
+            palette[index] = color;
+            paletteIndexes.put(color, index);
+        }
+
+        return (byte) (int) index;
+    }
+}
@@ -1,45 +1,84 @@
 package graph.algorithms;
 
+import graph.algorithms.traversal.BfsResult;
+import graph.algorithms.traversal.ParallelBfsEngine;
+import graph.edges.Edge;
+import graph.graph.AdjacencyArrays;
 import graph.graph.Graph;
-import main.View;
+import graph.graph.RenderBuffer;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 
-import static graph.graph.GraphHelper.getAdjacentVertices;
 import static graph.graph.GraphHelper.getStartVertex;
 
 public class BFSAlgorithm extends Algorithm {
 
-    public BFSAlgorithm(View view) {
-        super(view);
+    private final int start;
+    private final boolean byLevels;
+    private BfsResult levels;
+
+    public BFSAlgorithm(Graph graph) {
+        this(graph, false);
+    }
+
+    /**
+     * @param byLevels Whether every step adds a whole level of the search tree instead of examining one edge.
+     */
+    public BFSAlgorithm(Graph graph, boolean byLevels) {
+        this(graph, getStartVertex(graph).getNumber(), byLevels, graph.getRenderBuffer(), new StepController());
+    }
+
+    public BFSAlgorithm(Graph graph, int start, RenderBuffer renderBuffer, StepController controller) {
+        this(graph, start, false, renderBuffer, controller);
+    }
+
+    public BFSAlgorithm(Graph graph, int start, boolean byLevels, RenderBuffer renderBuffer, StepController controller) {
+        super(graph, renderBuffer, controller);
+        this.start = start;
+        this.byLevels = byLevels;
     }
 
     @Override
-    protected Void doInBackground() throws Exception {
-        view.clear(view.getGraph());
-        showBFS(view.getGraph());
-        return null;
+    protected void runAlgorithm(Graph graph) {
+        if (byLevels)
+            showLevels(graph, start);
+        else
+            showBFS(graph, start);
     }
 
-    private void showBFS(Graph graph) {
-        int start = getStartVertex(graph).getNumber();
-        boolean[] visited = new boolean[graph.getVertices().size()];
-        LinkedList<Integer> queue = new LinkedList<>();
+    /**
+     * @return The levels and the parents of the search tree when it is shown by levels,
+     * or null if the algorithm has not finished.
+     */
+    public BfsResult getLevels() {
+        return levels;
+    }
+
+    private void showBFS(Graph graph, int start) {
+        var adjacency = AdjacencyArrays.directed(graph);
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        int[] edgeIds = adjacency.getEdgeIds();
+
+        boolean[] visited = new boolean[adjacency.getNumberOfVertices()];
+        int[] queue = new int[adjacency.getNumberOfVertices()];
+        int head = 0;
+        int tail = 0;
 
         visited[start] = true;
-        queue.add(start);
+        queue[tail++] = start;
 
-        while (!queue.isEmpty()) {
-            start = queue.poll();
-//            System.out.print(start + " ");
+        while (head < tail) {
+            int vertex = queue[head++];
 
-            for (int adj : getAdjacentVertices(graph.getDirectedGraphMatrix(), start)) {
-                var adjEdge = getEdge(graph.getDirectedEdges(), start, adj);
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int adj = targets[arc];
+                var adjEdge = graph.getEdge(edgeIds[arc]);
                 setActive(adjEdge);
 
                 if (!visited[adj]) {
                     visited[adj] = true;
-                    queue.add(adj);
+                    queue[tail++] = adj;
 
                     setAddedToTree(adjEdge);
                 } else
@@ -47,4 +86,16 @@ public class BFSAlgorithm extends Algorithm {
             }
         }
     }
+
+    private void showLevels(Graph graph, int start) {
+        levels = ParallelBfsEngine.search(graph, start);
+        int[] parentEdges = levels.getParentEdges();
+
+        for (int level = 1; level < levels.getNumberOfLevels(); level++) {
+            var edges = new ArrayList<Edge>();
+            for (int vertex : levels.getLevel(level))
+                edges.add(graph.getEdge(parentEdges[vertex]));
+            setAddedToTree(edges);
+        }
+    }
 }
@@ -1,46 +1,55 @@
 package graph.algorithms;
 
+import graph.algorithms.traversal.DfsEngine;
+import graph.algorithms.traversal.DfsResult;
+import graph.algorithms.traversal.DfsVisitor;
+import graph.algorithms.traversal.EdgeType;
+import graph.graph.AdjacencyArrays;
 import graph.graph.Graph;
-import main.View;
+import graph.graph.RenderBuffer;
 
-import static graph.graph.GraphHelper.getAdjacentVertices;
 import static graph.graph.GraphHelper.getStartVertex;
 
 public class DFSAlgorithm extends Algorithm {
 
-    public DFSAlgorithm(View view) {
-        super(view);
-    }
+    private final int start;
+    private DfsResult result;
 
-    @Override
-    protected Void doInBackground() throws Exception {
-        view.clear(view.getGraph());
-        showDFS(view.getGraph());
-        return null;
+    public DFSAlgorithm(Graph graph) {
+        this(graph, getStartVertex(graph).getNumber(), graph.getRenderBuffer(), new StepController());
     }
 
-    private void showDFS(Graph graph) {
-        int start = getStartVertex(graph).getNumber();
-        boolean[] visited = new boolean[graph.getVertices().size()];
-        showDFSUtil(graph, start, visited);
+    public DFSAlgorithm(Graph graph, int start, RenderBuffer renderBuffer, StepController controller) {
+        super(graph, renderBuffer, controller);
+        this.start = start;
     }
 
+    @Override
+    protected void runAlgorithm(Graph graph) {
+        showDFS(graph, start);
+    }
 
-    private void showDFSUtil(Graph graph, int start, boolean[] visited) {
-        visited[start] = true;
+    /**
+     * @return The discovery and finish times and the edge types, or null if the algorithm has not finished.
+     */
+    public DfsResult getResult() {
+        return result;
+    }
 
-//        System.out.print(start + " ");
-        for (int adj : getAdjacentVertices(graph.getDirectedGraphMatrix(), start)) {
-            var adjEdge = getEdge(graph.getDirectedEdges(), start, adj);
-            setActive(adjEdge);
+    private void showDFS(Graph graph, int start) {
+        result = DfsEngine.search(AdjacencyArrays.directed(graph), start, new DfsVisitor() {
+            @Override
+            public void arcExamined(int from, int to, int edgeId) {
+                setActive(graph.getEdge(edgeId));
+            }
 
-            if (!visited[adj]) {
-//                System.out.print("--" + start + "-" + adj + " ");
-                setAddedToTree(adjEdge);
-                showDFSUtil(graph, adj, visited);
+            @Override
+            public void arcClassified(int from, int to, int edgeId, EdgeType type) {
+                if (type == EdgeType.TREE)
+                    setAddedToTree(graph.getEdge(edgeId));
+                else
+                    setVisited(graph.getEdge(edgeId));
             }
-            else
-                setVisited(adjEdge);
-        }
+        });
     }
 }
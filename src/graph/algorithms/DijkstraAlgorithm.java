@@ -0,0 +1,57 @@
+package graph.algorithms;
+
+import graph.algorithms.paths.DijkstraEngine;
+import graph.algorithms.paths.IndexedDaryHeap;
+import graph.algorithms.paths.SearchVisitor;
+import graph.algorithms.paths.ShortestPaths;
+import graph.graph.AdjacencyArrays;
+import graph.graph.Graph;
+import graph.graph.RenderBuffer;
+
+import static graph.graph.GraphHelper.getStartVertex;
+
+/**
+ * Shows Dijkstra's algorithm on the weighted undirected edges. Every examined edge is shown as active
+ * and then visited, and the last edge of the shortest path of a vertex is added to the tree when the vertex is settled.
+ */
+public class DijkstraAlgorithm extends Algorithm {
+
+    private final int start;
+    private ShortestPaths shortestPaths;
+
+    public DijkstraAlgorithm(Graph graph) {
+        this(graph, getStartVertex(graph).getNumber(), graph.getRenderBuffer(), new StepController());
+    }
+
+    public DijkstraAlgorithm(Graph graph, int start, RenderBuffer renderBuffer, StepController controller) {
+        super(graph, renderBuffer, controller);
+        this.start = start;
+    }
+
+    @Override
+    protected void runAlgorithm(Graph graph) {
+        var adjacency = AdjacencyArrays.weightedUndirected(graph);
+        shortestPaths = DijkstraEngine.shortestPaths(adjacency, start,
+                new IndexedDaryHeap(adjacency.getNumberOfVertices()), new SearchVisitor() {
+                    @Override
+                    public void arcExamined(int from, int to, int edgeId, boolean improved) {
+                        var edge = graph.getEdge(edgeId);
+                        setActive(edge);
+                        setVisited(edge);
+                    }
+
+                    @Override
+                    public void vertexSettled(int vertex, int edgeId) {
+                        if (edgeId >= 0)
+                            setAddedToTree(graph.getEdge(edgeId));
+                    }
+                });
+    }
+
+    /**
+     * @return The distances and predecessors from the start vertex, or null if the algorithm has not finished.
+     */
+    public ShortestPaths getShortestPaths() {
+        return shortestPaths;
+    }
+}
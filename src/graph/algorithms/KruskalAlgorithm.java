@@ -3,24 +3,32 @@ package graph.algorithms;
 import graph.graph.Graph;
 import graph.edges.Edge;
 import graph.edges.WeightedEdge;
-import main.View;
+import graph.graph.RenderBuffer;
 
-import java.awt.*;
 import java.util.ArrayList;
 
-import static graph.graph.GraphHelper.getAdjacentVertices;
-
 public class KruskalAlgorithm extends Algorithm {
 
-    public KruskalAlgorithm(View view) {
-        super(view);
+    private Graph minimumSpanningTree;
+
+    public KruskalAlgorithm(Graph graph) {
+        super(graph);
+    }
+
+    public KruskalAlgorithm(Graph graph, RenderBuffer renderBuffer, StepController controller) {
+        super(graph, renderBuffer, controller);
     }
 
     @Override
-    protected Void doInBackground() throws Exception {
-        view.clear(view.getGraph());
-        kruskalAlgorithm(view.getGraph());
-        return null;
+    protected void runAlgorithm(Graph graph) {
+        minimumSpanningTree = kruskalAlgorithm(graph);
+    }
+
+    /**
+     * @return The minimum spanning tree, or null if the algorithm has not finished.
+     */
+    public Graph getMinimumSpanningTree() {
+        return minimumSpanningTree;
     }
 
 //    @Override
@@ -49,48 +57,25 @@ public class KruskalAlgorithm extends Algorithm {
                 .sorted()
                 .toList())
                 .iterator();
-        var MSTGraph = new Graph();
+        var MSTGraph = new Graph(graph.getVertices().size());
 
         while (weightedEdgesIterator.hasNext()) {
             var edge = weightedEdgesIterator.next();
             weightedEdgesIterator.remove();
             setActive(edge);
 
-            MSTGraph.addEdge(edge);
-            if (hasCycle(MSTGraph))
-                MSTGraph.deleteEdge(edge);
-
-            if (MSTGraph.getWeightedUndirectedEdges().contains(edge))
-                setAddedToTree(edge);
-            else
+            if (closesCycle(MSTGraph, edge)) {
                 setVisited(edge);
+            } else {
+                MSTGraph.addEdge(edge);
+                setAddedToTree(edge);
+            }
         }
 
         return MSTGraph;
     }
 
-    private boolean hasCycle(Graph graph) {
-        for (var vertex : graph.getVertices()) {
-            var visited = new boolean[graph.getVertices().size()];
-            if (DFSVisitVisitedVertex(graph, vertex.getNumber(), -1, visited))
-                return true;
-        }
-
-        return false;
-    }
-
-    private boolean DFSVisitVisitedVertex(Graph graph, int start, int from, boolean[] visited) {
-        visited[start] = true;
-
-        for (var to : getAdjacentVertices(graph.getUndirectedGraphMatrix(), start)) {
-            if (!visited[to]) {
-                if (DFSVisitVisitedVertex(graph, to, start, visited))
-                    return true;
-            }
-            else if (to != from)
-                return true;
-        }
-
-        return false;
+    private boolean closesCycle(Graph graph, Edge edge) {
+        return graph.getStatistics().areConnected(edge.getVertex1().getNumber(), edge.getVertex2().getNumber());
     }
 }
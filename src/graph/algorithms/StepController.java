@@ -0,0 +1,62 @@
+package graph.algorithms;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets an algorithm make its steps only when they are granted.
+ * Every algorithm instance has its own controller, so several algorithms can be stepped independently.
+ */
+public class StepController {
+
+    private final Semaphore permits = new Semaphore(0);
+    private final AtomicLong completedSteps = new AtomicLong();
+    private final boolean freeRunning;
+
+    public StepController() {
+        this(false);
+    }
+
+    private StepController(boolean freeRunning) {
+        this.freeRunning = freeRunning;
+    }
+
+    /**
+     * @return The controller that never blocks, for running an algorithm without visualization.
+     */
+    public static StepController freeRunning() {
+        return new StepController(true);
+    }
+
+    /**
+     * Called by the algorithm after it has published a step.
+     * Blocks until the next step is granted. A free-running controller only checks for interruption.
+     */
+    public void awaitStep() throws InterruptedException {
+        completedSteps.incrementAndGet();
+        if (!freeRunning)
+            permits.acquire();
+        else if (Thread.interrupted())
+            throw new InterruptedException();
+    }
+
+    public void grant(int steps) {
+        if (steps > 0)
+            permits.release(steps);
+    }
+
+    /**
+     * Takes back the steps that were granted, but not made yet.
+     */
+    public void revoke() {
+        permits.drainPermits();
+    }
+
+    public int getPendingSteps() {
+        return permits.availablePermits();
+    }
+
+    public long getCompletedSteps() {
+        return completedSteps.get();
+    }
+}
@@ -0,0 +1,70 @@
+package graph.algorithms.components;
+
+import java.util.Arrays;
+
+/**
+ * The connected components of a graph, numbered from 0 in the order of their smallest vertex.
+ */
+public class Components {
+
+    private final int[] labels;
+    private final int[] sizes;
+    private final int[] offsets;
+    private final int[] verticesByComponent;
+
+    Components(int[] labels, int numberOfComponents) {
+        this.labels = labels;
+        sizes = new int[numberOfComponents];
+        for (int label : labels)
+            sizes[label]++;
+
+        offsets = new int[numberOfComponents + 1];
+        for (int c = 0; c < numberOfComponents; c++)
+            offsets[c + 1] = offsets[c] + sizes[c];
+
+        verticesByComponent = new int[labels.length];
+        int[] next = Arrays.copyOf(offsets, numberOfComponents);
+        for (int v = 0; v < labels.length; v++)
+            verticesByComponent[next[labels[v]]++] = v;
+    }
+
+    public int getNumberOfComponents() {
+        return sizes.length;
+    }
+
+    /**
+     * @return The component of every vertex. The array is shared, not copied.
+     */
+    public int[] getLabels() {
+        return labels;
+    }
+
+    /**
+     * @return The number of vertices of every component. The array is shared, not copied.
+     */
+    public int[] getSizes() {
+        return sizes;
+    }
+
+    public int getComponent(int vertex) {
+        return labels[vertex];
+    }
+
+    /**
+     * @return The vertices of the component in increasing order.
+     */
+    public int[] getVertices(int component) {
+        return Arrays.copyOfRange(verticesByComponent, offsets[component], offsets[component + 1]);
+    }
+
+    /**
+     * @return The component with the most vertices, the first one of them if there are several, or -1 if there are none.
+     */
+    public int getLargestComponent() {
+        int largest = -1;
+        for (int c = 0; c < sizes.length; c++)
+            if (largest < 0 || sizes[c] > sizes[largest])
+                largest = c;
+        return largest;
+    }
+}
@@ -0,0 +1,67 @@
+package graph.algorithms.components;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A lock-free disjoint set forest that any number of threads may update at once.
+ * A root is always linked under a root with a smaller number with one compare-and-set,
+ * so the links can never form a cycle, and finding shortens the paths by halving them with compare-and-set too.
+ */
+public class ConcurrentUnionFind {
+
+    private final AtomicIntegerArray parents;
+
+    public ConcurrentUnionFind(int size) {
+        parents = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++)
+            parents.set(i, i);
+    }
+
+    public int size() {
+        return parents.length();
+    }
+
+    /**
+     * @return The current root of the set of the element. Another thread may link it afterwards.
+     */
+    public int find(int element) {
+        while (true) {
+            int parent = parents.get(element);
+            if (parent == element)
+                return element;
+
+            int grandparent = parents.get(parent);
+            if (parent != grandparent)
+                parents.compareAndSet(element, parent, grandparent);
+            element = grandparent;
+        }
+    }
+
+    /**
+     * Merges the sets of the two elements.
+     * @return Whether they were in different sets, i.e. this call merged them.
+     */
+    public boolean union(int a, int b) {
+        while (true) {
+            a = find(a);
+            b = find(b);
+            if (a == b)
+                return false;
+
+            if (a < b) {
+                int swap = a;
+                a = b;
+                b = swap;
+            }
+            if (parents.compareAndSet(a, a, b))
+                return true;
+        }
+    }
+
+    /**
+     * Only reliable when no other thread is merging the sets.
+     */
+    public boolean isSameSet(int a, int b) {
+        return find(a) == find(b);
+    }
+}
@@ -0,0 +1,109 @@
+package graph.algorithms.components;
+
+import graph.graph.AdjacencyArrays;
+import graph.graph.Graph;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Connected components of undirected graphs with a {@link ConcurrentUnionFind}.
+ * The vertices are split into chunks of about {@value ARCS_PER_TASK} arcs that are merged in parallel
+ * on a {@link ForkJoinPool}, then every vertex is labelled by its root, also in parallel.
+ */
+public class ConnectedComponents {
+
+    private static final int ARCS_PER_TASK = 1 << 14;
+    private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+    /**
+     * @return The components of the weighted undirected edges of the graph.
+     */
+    public static Components compute(Graph graph) {
+        return compute(AdjacencyArrays.weightedUndirected(graph));
+    }
+
+    /**
+     * @param adjacency A directed adjacency gives the weakly connected components.
+     */
+    public static Components compute(AdjacencyArrays adjacency) {
+        int n = adjacency.getNumberOfVertices();
+        var unionFind = new ConcurrentUnionFind(n);
+        POOL.invoke(new UnionTask(adjacency, unionFind, 0, n));
+
+        int[] roots = new int[n];
+        POOL.invoke(new FindTask(unionFind, roots, 0, n));
+
+        int[] labels = new int[n];
+        int numberOfComponents = 0;
+        for (int v = 0; v < n; v++) {
+            int root = roots[v];
+            labels[v] = root == v ? numberOfComponents++ : labels[root];
+        }
+
+        return new Components(labels, numberOfComponents);
+    }
+
+
+    private static class UnionTask extends RecursiveAction {
+        private final AdjacencyArrays adjacency;
+        private final ConcurrentUnionFind unionFind;
+        private final int from;
+        private final int to;
+
+        UnionTask(AdjacencyArrays adjacency, ConcurrentUnionFind unionFind, int from, int to) {
+            this.adjacency = adjacency;
+            this.unionFind = unionFind;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int[] offsets = adjacency.getOffsets();
+            if (to - from > 1 && offsets[to] - offsets[from] > ARCS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new UnionTask(adjacency, unionFind, from, middle),
+                        new UnionTask(adjacency, unionFind, middle, to));
+                return;
+            }
+
+            int[] targets = adjacency.getTargets();
+            boolean directed = adjacency.isDirected();
+            for (int v = from; v < to; v++) {
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    int target = targets[arc];
+                    if (directed || target > v)
+                        unionFind.union(v, target);
+                }
+            }
+        }
+    }
+
+    private static class FindTask extends RecursiveAction {
+        private final ConcurrentUnionFind unionFind;
+        private final int[] roots;
+        private final int from;
+        private final int to;
+
+        FindTask(ConcurrentUnionFind unionFind, int[] roots, int from, int to) {
+            this.unionFind = unionFind;
+            this.roots = roots;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ARCS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FindTask(unionFind, roots, from, middle),
+                        new FindTask(unionFind, roots, middle, to));
+                return;
+            }
+
+            for (int v = from; v < to; v++)
+                roots[v] = unionFind.find(v);
+        }
+    }
+}
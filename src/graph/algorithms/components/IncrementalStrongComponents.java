@@ -0,0 +1,486 @@
+package graph.algorithms.components;
+
+import graph.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * The strongly connected components and the condensation of a directed graph that grows edge by edge,
+ * instead of recalculating the strong connectivity matrix after every change.
+ * <p>
+ * Every component is named by one of its vertices and keeps the number of edges to and from the other components,
+ * which is the condensation. The components are kept in a topological order with the Pearce-Kelly algorithm:
+ * an inserted edge that goes backwards in the order only reorders the components between its ends that it affects.
+ * If that edge closes a cycle, the components on the cycle are merged in place.
+ * Deleting an edge inside a component recomputes just that component with Tarjan's algorithm
+ * and, if it splits, the topological order of the condensation.
+ */
+public class IncrementalStrongComponents {
+
+    private final int numberOfVertices;
+    private final ArrayList<HashSet<Integer>> successors = new ArrayList<>();
+    private final ArrayList<HashSet<Integer>> predecessors = new ArrayList<>();
+    private final int[] components;
+    private final ArrayList<ArrayList<Integer>> members = new ArrayList<>();
+    private final ArrayList<HashMap<Integer, Integer>> componentSuccessors = new ArrayList<>();
+    private final ArrayList<HashMap<Integer, Integer>> componentPredecessors = new ArrayList<>();
+    private final int[] order;
+    private int numberOfComponents;
+
+    private final int[] forwardMarks;
+    private final int[] backwardMarks;
+    private int mark;
+    private final int[] stack;
+    private final int[] indices;
+    private final int[] lowLinks;
+    private final boolean[] onStack;
+    private final int[][] splitSuccessors;
+    private final int[] cursors;
+
+    private IncrementalStrongComponents(int numberOfVertices) {
+        this.numberOfVertices = numberOfVertices;
+        components = new int[numberOfVertices];
+        order = new int[numberOfVertices];
+        forwardMarks = new int[numberOfVertices];
+        backwardMarks = new int[numberOfVertices];
+        stack = new int[numberOfVertices];
+        indices = new int[numberOfVertices];
+        lowLinks = new int[numberOfVertices];
+        onStack = new boolean[numberOfVertices];
+        splitSuccessors = new int[numberOfVertices][];
+        cursors = new int[numberOfVertices];
+        for (int v = 0; v < numberOfVertices; v++) {
+            successors.add(new HashSet<>());
+            predecessors.add(new HashSet<>());
+            members.add(null);
+            componentSuccessors.add(new HashMap<>());
+            componentPredecessors.add(new HashMap<>());
+        }
+    }
+
+    public static IncrementalStrongComponents of(Graph graph) {
+        return of(graph.getDirectedGraphMatrix());
+    }
+
+    public static IncrementalStrongComponents of(int[][] directedGraphMatrix) {
+        var n = directedGraphMatrix.length;
+        var strongComponents = new IncrementalStrongComponents(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (directedGraphMatrix[i][j] == 1) {
+                    strongComponents.successors.get(i).add(j);
+                    strongComponents.predecessors.get(j).add(i);
+                }
+            }
+        }
+
+        var all = new int[n];
+        for (int v = 0; v < n; v++)
+            all[v] = v;
+        strongComponents.split(all, -1);
+        return strongComponents;
+    }
+
+    /**
+     * Adds the edge and merges the components it closes a cycle through.
+     * @return False if the edge was already there.
+     */
+    public boolean addEdge(int from, int to) {
+        if (!successors.get(from).add(to))
+            return false;
+        predecessors.get(to).add(from);
+
+        var componentFrom = components[from];
+        var componentTo = components[to];
+        if (componentFrom == componentTo)
+            return true;
+
+        var known = componentSuccessors.get(componentFrom).merge(componentTo, 1, Integer::sum) > 1;
+        componentPredecessors.get(componentTo).merge(componentFrom, 1, Integer::sum);
+        if (!known && order[componentFrom] > order[componentTo])
+            reorder(componentFrom, componentTo);
+        return true;
+    }
+
+    /**
+     * Deletes the edge and splits its component if the edge was holding it together.
+     * @return False if there was no such edge.
+     */
+    public boolean deleteEdge(int from, int to) {
+        if (!successors.get(from).remove(to))
+            return false;
+        predecessors.get(to).remove(from);
+
+        var componentFrom = components[from];
+        var componentTo = components[to];
+        if (componentFrom != componentTo) {
+            decrement(componentSuccessors.get(componentFrom), componentTo);
+            decrement(componentPredecessors.get(componentTo), componentFrom);
+            return true;
+        }
+
+        var vertices = members.get(componentFrom).stream().mapToInt(Integer::intValue).toArray();
+        detach(componentFrom);
+        if (split(vertices, componentFrom) > 1)
+            recalculateOrder();
+        return true;
+    }
+
+    public boolean hasEdge(int from, int to) {
+        return successors.get(from).contains(to);
+    }
+
+    public int getNumberOfVertices() {
+        return numberOfVertices;
+    }
+
+    public int getNumberOfComponents() {
+        return numberOfComponents;
+    }
+
+    public boolean areStronglyConnected(int vertex1, int vertex2) {
+        return components[vertex1] == components[vertex2];
+    }
+
+    /**
+     * @return The vertex that names the component of the vertex. It changes when the component is merged or split.
+     */
+    public int getRepresentative(int vertex) {
+        return components[vertex];
+    }
+
+    /**
+     * @return The components numbered in the order of their smallest vertex,
+     * the same order as {@code GraphHelper.listOfStronglyConnectedComponents} lists them in.
+     */
+    public Components getComponents() {
+        var labels = new int[numberOfVertices];
+        var labelsOfRepresentatives = new int[numberOfVertices];
+        Arrays.fill(labelsOfRepresentatives, -1);
+        var count = 0;
+        for (int v = 0; v < numberOfVertices; v++) {
+            var representative = components[v];
+            if (labelsOfRepresentatives[representative] < 0)
+                labelsOfRepresentatives[representative] = count++;
+            labels[v] = labelsOfRepresentatives[representative];
+        }
+        return new Components(labels, count);
+    }
+
+    /**
+     * @param labelled The components returned by {@link #getComponents()}.
+     * @return The labels of the components in a topological order of the condensation.
+     */
+    public int[] getTopologicalOrder(Components labelled) {
+        var labels = labelled.getLabels();
+        var result = new int[labelled.getNumberOfComponents()];
+        var index = 0;
+        for (var representative : representativesInOrder())
+            result[index++] = labels[representative];
+        return result;
+    }
+
+    /**
+     * @param labelled The components returned by {@link #getComponents()}.
+     * @return The adjacency matrix of the condensation, indexed by the labels of the components.
+     */
+    public int[][] getCondensationMatrix(Components labelled) {
+        var labels = labelled.getLabels();
+        var matrix = new int[labelled.getNumberOfComponents()][labelled.getNumberOfComponents()];
+        for (int v = 0; v < numberOfVertices; v++) {
+            if (components[v] != v)
+                continue;
+            for (var target : componentSuccessors.get(v).keySet())
+                matrix[labels[v]][labels[target]] = 1;
+        }
+        return matrix;
+    }
+
+    public Graph getCondensationGraph() {
+        return new Graph(getCondensationMatrix(getComponents()));
+    }
+
+    private ArrayList<Integer> representativesInOrder() {
+        var representatives = new ArrayList<Integer>(numberOfComponents);
+        for (int v = 0; v < numberOfVertices; v++) {
+            if (components[v] == v)
+                representatives.add(v);
+        }
+        representatives.sort((a, b) -> Integer.compare(order[a], order[b]));
+        return representatives;
+    }
+
+    /**
+     * Restores the topological order after the edge from the component that is later in the order.
+     * The components between them that the target reaches are moved after the ones that reach the source,
+     * reusing the same positions, and the components that are both are merged into one.
+     */
+    private void reorder(int componentFrom, int componentTo) {
+        var lowerBound = order[componentTo];
+        var upperBound = order[componentFrom];
+        mark++;
+        var forward = search(componentTo, componentSuccessors, forwardMarks, lowerBound, upperBound);
+        var backward = search(componentFrom, componentPredecessors, backwardMarks, lowerBound, upperBound);
+
+        var positions = new ArrayList<Integer>(forward.size() + backward.size());
+        var before = new ArrayList<Integer>();
+        var cycle = new ArrayList<Integer>();
+        var after = new ArrayList<Integer>();
+        for (var component : backward) {
+            positions.add(order[component]);
+            if (forwardMarks[component] == mark)
+                cycle.add(component);
+            else
+                before.add(component);
+        }
+        for (var component : forward) {
+            if (backwardMarks[component] != mark) {
+                positions.add(order[component]);
+                after.add(component);
+            }
+        }
+        positions.sort(null);
+        before.sort((a, b) -> Integer.compare(order[a], order[b]));
+        after.sort((a, b) -> Integer.compare(order[a], order[b]));
+
+        var index = 0;
+        for (var component : before)
+            order[component] = positions.get(index++);
+        if (!cycle.isEmpty()) {
+            var merged = merge(cycle);
+            order[merged] = positions.get(index);
+            index += cycle.size();
+        }
+        for (var component : after)
+            order[component] = positions.get(index++);
+    }
+
+    private ArrayList<Integer> search(int start, ArrayList<HashMap<Integer, Integer>> edges, int[] marks,
+                                      int lowerBound, int upperBound) {
+        var found = new ArrayList<Integer>();
+        var top = 0;
+        stack[top++] = start;
+        marks[start] = mark;
+        while (top > 0) {
+            var component = stack[--top];
+            found.add(component);
+            for (var next : edges.get(component).keySet()) {
+                if (marks[next] != mark && order[next] >= lowerBound && order[next] <= upperBound) {
+                    marks[next] = mark;
+                    stack[top++] = next;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Merges the components into the biggest one, moving the condensation edges of the others to it.
+     * @return The representative of the merged component.
+     */
+    private int merge(ArrayList<Integer> cycle) {
+        var merged = cycle.getFirst();
+        for (var component : cycle) {
+            if (members.get(component).size() > members.get(merged).size())
+                merged = component;
+        }
+
+        var mergedSuccessors = componentSuccessors.get(merged);
+        var mergedPredecessors = componentPredecessors.get(merged);
+        for (var component : cycle) {
+            if (component == merged)
+                continue;
+            moveEdges(component, merged, componentSuccessors, componentPredecessors);
+            moveEdges(component, merged, componentPredecessors, componentSuccessors);
+            mergedSuccessors.remove(component);
+            mergedPredecessors.remove(component);
+
+            var absorbed = members.set(component, null);
+            for (var vertex : absorbed)
+                components[vertex] = merged;
+            members.get(merged).addAll(absorbed);
+        }
+        numberOfComponents -= cycle.size() - 1;
+        return merged;
+    }
+
+    private void moveEdges(int component, int merged, ArrayList<HashMap<Integer, Integer>> outgoing,
+                           ArrayList<HashMap<Integer, Integer>> incoming) {
+        var edges = outgoing.get(component);
+        for (var entry : edges.entrySet()) {
+            var other = entry.getKey();
+            incoming.get(other).remove(component);
+            if (forwardMarks[other] == mark && backwardMarks[other] == mark)
+                continue;
+            outgoing.get(merged).merge(other, entry.getValue(), Integer::sum);
+            incoming.get(other).merge(merged, entry.getValue(), Integer::sum);
+        }
+        edges.clear();
+    }
+
+    /**
+     * Removes the condensation edges of the component from its neighbours.
+     */
+    private void detach(int component) {
+        for (var other : componentSuccessors.get(component).keySet())
+            componentPredecessors.get(other).remove(component);
+        for (var other : componentPredecessors.get(component).keySet())
+            componentSuccessors.get(other).remove(component);
+        componentSuccessors.get(component).clear();
+        componentPredecessors.get(component).clear();
+        members.set(component, null);
+        numberOfComponents--;
+    }
+
+    /**
+     * Finds the strongly connected components among the vertices with Tarjan's algorithm,
+     * following only the edges inside the given component, or all edges if it is -1.
+     * The new components get the positions of the old one in the order, in reverse order of discovery.
+     * @return The number of the new components.
+     */
+    private int split(int[] vertices, int component) {
+        for (var vertex : vertices) {
+            indices[vertex] = -1;
+            splitSuccessors[vertex] = successorsInside(vertex, component);
+        }
+
+        var found = new ArrayList<ArrayList<Integer>>();
+        var tarjanStack = new int[vertices.length];
+        var tarjanTop = 0;
+        var index = 0;
+        for (var root : vertices) {
+            if (indices[root] >= 0)
+                continue;
+
+            var top = 0;
+            stack[top++] = root;
+            indices[root] = lowLinks[root] = index++;
+            tarjanStack[tarjanTop++] = root;
+            onStack[root] = true;
+            cursors[root] = 0;
+
+            while (top > 0) {
+                var vertex = stack[top - 1];
+                var vertexSuccessors = splitSuccessors[vertex];
+                if (cursors[vertex] < vertexSuccessors.length) {
+                    var next = vertexSuccessors[cursors[vertex]++];
+                    if (indices[next] < 0) {
+                        indices[next] = lowLinks[next] = index++;
+                        tarjanStack[tarjanTop++] = next;
+                        onStack[next] = true;
+                        cursors[next] = 0;
+                        stack[top++] = next;
+                    } else if (onStack[next]) {
+                        lowLinks[vertex] = Math.min(lowLinks[vertex], indices[next]);
+                    }
+                    continue;
+                }
+
+                top--;
+                if (top > 0)
+                    lowLinks[stack[top - 1]] = Math.min(lowLinks[stack[top - 1]], lowLinks[vertex]);
+                if (lowLinks[vertex] == indices[vertex]) {
+                    var newComponent = new ArrayList<Integer>();
+                    int member;
+                    do {
+                        member = tarjanStack[--tarjanTop];
+                        onStack[member] = false;
+                        newComponent.add(member);
+                    } while (member != vertex);
+                    found.add(newComponent);
+                }
+            }
+        }
+
+        for (var vertex : vertices)
+            splitSuccessors[vertex] = null;
+
+        mark++;
+        var base = component >= 0 ? order[component] : 0;
+        for (int i = found.size() - 1, position = base; i >= 0; i--, position++) {
+            var newComponent = found.get(i);
+            var representative = newComponent.getFirst();
+            for (var vertex : newComponent)
+                components[vertex] = representative;
+            members.set(representative, newComponent);
+            order[representative] = position;
+            forwardMarks[representative] = mark;
+        }
+        numberOfComponents += found.size();
+
+        for (var newComponent : found)
+            attach(newComponent.getFirst());
+        return found.size();
+    }
+
+    /**
+     * @return The successors of the vertex in the component, or all of them if it is -1.
+     */
+    private int[] successorsInside(int vertex, int component) {
+        var vertexSuccessors = successors.get(vertex);
+        var inside = new int[vertexSuccessors.size()];
+        var count = 0;
+        for (var next : vertexSuccessors) {
+            if (component < 0 || components[next] == component)
+                inside[count++] = next;
+        }
+        return count == inside.length ? inside : Arrays.copyOf(inside, count);
+    }
+
+    /**
+     * Adds the condensation edges of the new component from the edges of its vertices.
+     * The incoming edges are only taken from the components that are not new, marked with {@link #mark},
+     * since the new ones add theirs as outgoing edges.
+     */
+    private void attach(int component) {
+        for (var vertex : members.get(component)) {
+            for (var next : successors.get(vertex))
+                addComponentEdge(component, components[next]);
+            for (var previous : predecessors.get(vertex)) {
+                var other = components[previous];
+                if (forwardMarks[other] != mark)
+                    addComponentEdge(other, component);
+            }
+        }
+    }
+
+    private void addComponentEdge(int from, int to) {
+        if (from == to)
+            return;
+        componentSuccessors.get(from).merge(to, 1, Integer::sum);
+        componentPredecessors.get(to).merge(from, 1, Integer::sum);
+    }
+
+    private void decrement(HashMap<Integer, Integer> edges, int component) {
+        if (edges.merge(component, -1, Integer::sum) == 0)
+            edges.remove(component);
+    }
+
+    /**
+     * Numbers all the components again in a topological order of the condensation with Kahn's algorithm.
+     */
+    private void recalculateOrder() {
+        var remaining = new int[numberOfVertices];
+        var top = 0;
+        for (int v = 0; v < numberOfVertices; v++) {
+            if (components[v] != v)
+                continue;
+            remaining[v] = componentPredecessors.get(v).size();
+            if (remaining[v] == 0)
+                stack[top++] = v;
+        }
+
+        var position = 0;
+        while (top > 0) {
+            var component = stack[--top];
+            order[component] = position++;
+            for (var next : componentSuccessors.get(component).keySet()) {
+                if (--remaining[next] == 0)
+                    stack[top++] = next;
+            }
+        }
+    }
+}
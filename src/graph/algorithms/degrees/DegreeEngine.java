@@ -0,0 +1,156 @@
+package graph.algorithms.degrees;
+
+import graph.graph.AdjacencyArrays;
+import graph.graph.AnalysisCache.Analysis;
+import graph.graph.Graph;
+import graph.graph.GraphPart;
+import graph.math.BitsetHelper;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Degrees of all the vertices from {@link AdjacencyArrays} instead of the degree maps of {@code GraphHelper}.
+ * The out degrees are the lengths of the rows and the in degrees are counted with atomic increments
+ * in one parallel pass over the arcs, split into chunks of about {@value ARCS_PER_TASK} arcs on a {@link ForkJoinPool}
+ * (plain increments in one pass when there is a single worker, where the atomics would only cost).
+ * A second parallel pass over the vertices adds up the total degrees and sets the bits of the isolated and end vertices,
+ * every task owning whole words of the bitsets.
+ */
+public class DegreeEngine {
+
+    private static final int ARCS_PER_TASK = 1 << 14;
+    private static final int VERTICES_PER_TASK = 1 << 14;
+    private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+    private static final VarHandle DEGREES = MethodHandles.arrayElementVarHandle(int[].class);
+
+    /** The degrees of the directed edges, cached by the graph until they change. */
+    public static final Analysis<Degrees> DIRECTED = new Analysis<>("directedDegreeArrays",
+            graph -> compute(AdjacencyArrays.directed(graph)), GraphPart.DIRECTED_EDGES);
+    /** The degrees of the weighted undirected edges, cached by the graph until they change. */
+    public static final Analysis<Degrees> UNDIRECTED = new Analysis<>("undirectedDegreeArrays",
+            graph -> compute(AdjacencyArrays.weightedUndirected(graph)), GraphPart.UNDIRECTED_EDGES);
+
+    /**
+     * @return The same degrees as {@code GraphHelper.calculateDirectedGraphDegrees} of the directed graph matrix.
+     */
+    public static Degrees directed(Graph graph) {
+        return graph.getAnalysisCache().get(DIRECTED);
+    }
+
+    /**
+     * @return The same degrees as {@code GraphHelper.calculateUndirectedGraphDegrees} of the undirected graph matrix.
+     */
+    public static Degrees undirected(Graph graph) {
+        return graph.getAnalysisCache().get(UNDIRECTED);
+    }
+
+    public static Degrees compute(AdjacencyArrays adjacency) {
+        int n = adjacency.getNumberOfVertices();
+        int[] offsets = adjacency.getOffsets();
+        int[] outDegrees = new int[n];
+        for (int v = 0; v < n; v++)
+            outDegrees[v] = offsets[v + 1] - offsets[v];
+
+        boolean directed = adjacency.isDirected();
+        int[] inDegrees = outDegrees;
+        int[] totalDegrees = outDegrees;
+        if (directed) {
+            inDegrees = new int[n];
+            totalDegrees = new int[n];
+            if (POOL.getParallelism() > 1 && adjacency.getNumberOfArcs() > ARCS_PER_TASK)
+                POOL.invoke(new InDegreeTask(adjacency, inDegrees, 0, n));
+            else
+                for (int target : adjacency.getTargets())
+                    inDegrees[target]++;
+        }
+
+        var totals = new TotalTask(outDegrees, inDegrees, totalDegrees, directed,
+                BitsetHelper.newBitset(n), BitsetHelper.newBitset(n), 0, n);
+        POOL.invoke(totals);
+
+        return new Degrees(directed, outDegrees, inDegrees, totalDegrees, totals.isolatedVertices, totals.endVertices,
+                n == 0 ? 0 : totals.minDegree, n == 0 ? 0 : totals.maxDegree);
+    }
+
+
+    private static class InDegreeTask extends RecursiveAction {
+        private final AdjacencyArrays adjacency;
+        private final int[] inDegrees;
+        private final int from;
+        private final int to;
+
+        InDegreeTask(AdjacencyArrays adjacency, int[] inDegrees, int from, int to) {
+            this.adjacency = adjacency;
+            this.inDegrees = inDegrees;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int[] offsets = adjacency.getOffsets();
+            if (to - from > 1 && offsets[to] - offsets[from] > ARCS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new InDegreeTask(adjacency, inDegrees, from, middle),
+                        new InDegreeTask(adjacency, inDegrees, middle, to));
+                return;
+            }
+
+            int[] targets = adjacency.getTargets();
+            for (int arc = offsets[from]; arc < offsets[to]; arc++)
+                DEGREES.getAndAdd(inDegrees, targets[arc], 1);
+        }
+    }
+
+    private static class TotalTask extends RecursiveAction {
+        private final int[] outDegrees;
+        private final int[] inDegrees;
+        private final int[] totalDegrees;
+        private final boolean directed;
+        private final long[] isolatedVertices;
+        private final long[] endVertices;
+        private final int from;
+        private final int to;
+        private int minDegree = Integer.MAX_VALUE;
+        private int maxDegree = 0;
+
+        TotalTask(int[] outDegrees, int[] inDegrees, int[] totalDegrees, boolean directed,
+                  long[] isolatedVertices, long[] endVertices, int from, int to) {
+            this.outDegrees = outDegrees;
+            this.inDegrees = inDegrees;
+            this.totalDegrees = totalDegrees;
+            this.directed = directed;
+            this.isolatedVertices = isolatedVertices;
+            this.endVertices = endVertices;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > VERTICES_PER_TASK) {
+                int middle = ((from + to) >>> 1) & ~63;
+                var left = new TotalTask(outDegrees, inDegrees, totalDegrees, directed, isolatedVertices, endVertices, from, middle);
+                var right = new TotalTask(outDegrees, inDegrees, totalDegrees, directed, isolatedVertices, endVertices, middle, to);
+                invokeAll(left, right);
+                minDegree = Math.min(left.minDegree, right.minDegree);
+                maxDegree = Math.max(left.maxDegree, right.maxDegree);
+                return;
+            }
+
+            for (int v = from; v < to; v++) {
+                int degree = directed ? outDegrees[v] + inDegrees[v] : totalDegrees[v];
+                totalDegrees[v] = degree;
+                if (degree == 0)
+                    BitsetHelper.set(isolatedVertices, v);
+                else if (degree == 1)
+                    BitsetHelper.set(endVertices, v);
+                minDegree = Math.min(minDegree, degree);
+                maxDegree = Math.max(maxDegree, degree);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package graph.algorithms.degrees;
+
+import graph.math.BitsetHelper;
+
+/**
+ * The degrees of all the vertices of a graph in primitive arrays, with the sets of the isolated and end vertices
+ * as bitsets (see {@link BitsetHelper}). The arrays are shared, not copied, so they must not be modified.
+ */
+public class Degrees {
+
+    private final boolean directed;
+    private final int[] outDegrees;
+    private final int[] inDegrees;
+    private final int[] totalDegrees;
+    private final long[] isolatedVertices;
+    private final long[] endVertices;
+    private final int minDegree;
+    private final int maxDegree;
+    private int[] histogram;
+
+    Degrees(boolean directed, int[] outDegrees, int[] inDegrees, int[] totalDegrees,
+            long[] isolatedVertices, long[] endVertices, int minDegree, int maxDegree) {
+        this.directed = directed;
+        this.outDegrees = outDegrees;
+        this.inDegrees = inDegrees;
+        this.totalDegrees = totalDegrees;
+        this.isolatedVertices = isolatedVertices;
+        this.endVertices = endVertices;
+        this.minDegree = minDegree;
+        this.maxDegree = maxDegree;
+    }
+
+    public boolean isDirected() {
+        return directed;
+    }
+
+    public int getNumberOfVertices() {
+        return totalDegrees.length;
+    }
+
+    /**
+     * @return The number of outgoing arcs of every vertex, the same as the total degree if the graph is undirected.
+     */
+    public int[] getOutDegrees() {
+        return outDegrees;
+    }
+
+    /**
+     * @return The number of incoming arcs of every vertex, the same as the total degree if the graph is undirected.
+     */
+    public int[] getInDegrees() {
+        return inDegrees;
+    }
+
+    /**
+     * @return The sum of the in and out degrees of every vertex of a directed graph, the number of neighbours in an
+     * undirected one. A loop counts twice in a directed graph and once in an undirected one, as in {@code GraphHelper}.
+     */
+    public int[] getDegrees() {
+        return totalDegrees;
+    }
+
+    public int getDegree(int vertex) {
+        return totalDegrees[vertex];
+    }
+
+    public int getMinDegree() {
+        return minDegree;
+    }
+
+    public int getMaxDegree() {
+        return maxDegree;
+    }
+
+    public boolean isRegular() {
+        return minDegree == maxDegree;
+    }
+
+    /**
+     * @return The vertices with no arcs.
+     */
+    public long[] getIsolatedVertices() {
+        return isolatedVertices;
+    }
+
+    /**
+     * @return The vertices of degree 1, the leaves.
+     */
+    public long[] getEndVertices() {
+        return endVertices;
+    }
+
+    /**
+     * @return The number of vertices of every degree from 0 to the max degree, counted on the first call.
+     */
+    public synchronized int[] getHistogram() {
+        if (histogram == null) {
+            var counts = new int[maxDegree + 1];
+            for (int degree : totalDegrees)
+                counts[degree]++;
+            histogram = counts;
+        }
+        return histogram;
+    }
+
+    /**
+     * @return The vertices of the given degree.
+     */
+    public long[] getVerticesWithDegree(int degree) {
+        if (degree == 0)
+            return isolatedVertices;
+        if (degree == 1)
+            return endVertices;
+
+        var vertices = BitsetHelper.newBitset(totalDegrees.length);
+        for (int v = 0; v < totalDegrees.length; v++) {
+            if (totalDegrees[v] == degree)
+                BitsetHelper.set(vertices, v);
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,170 @@
+package graph.algorithms.paths;
+
+import graph.graph.AdjacencyArrays;
+import graph.graph.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Bidirectional A* between two vertices with the average potential of the forward and reverse heuristics.
+ * <p>
+ * With h_t and h_s the estimates to the target and to the source, the forward search uses the key
+ * 2 d_s(v) + h_t(v) - h_s(v) and the reverse one 2 d_t(v) + h_s(v) - h_t(v). Both potentials are consistent,
+ * so every vertex is settled once in each direction, and the search stops when the two smallest keys
+ * add up to at least twice the best path found. The keys are doubled to keep them integer.
+ */
+public class AStarEngine {
+
+    /**
+     * @return The shortest path along the weighted undirected edges of the graph.
+     */
+    public static PathResult findPath(Graph graph, int source, int target) {
+        var adjacency = AdjacencyArrays.weightedUndirected(graph);
+        var heuristic = EuclideanHeuristic.of(graph.getVertices(), adjacency);
+        return findPath(adjacency, heuristic, source, target, SearchVisitor.NONE);
+    }
+
+    /**
+     * @param visitor Receives the arcs and the vertices of both directions. Arcs of the reverse search
+     *                are reported in their own direction, from the vertex closer to the target.
+     * @throws IllegalArgumentException If there is an arc with a negative weight.
+     */
+    public static PathResult findPath(AdjacencyArrays adjacency, EuclideanHeuristic heuristic,
+                                      int source, int target, SearchVisitor visitor) {
+        if (adjacency.getNumberOfArcs() > 0 && adjacency.getMinWeight() < 0)
+            throw new IllegalArgumentException("A* needs non-negative weights: " + adjacency.getMinWeight());
+
+        int n = adjacency.getNumberOfVertices();
+        if (source == target) {
+            visitor.vertexSettled(source, -1);
+            return new PathResult(new int[]{source}, new int[0], 0, 1);
+        }
+
+        var forward = new Direction(adjacency, n, source, target, heuristic);
+        var reverse = new Direction(adjacency.reversed(), n, target, source, heuristic);
+        long best = ShortestPaths.UNREACHABLE;
+        int meeting = -1;
+        int expanded = 0;
+
+        while (!forward.queue.isEmpty() && !reverse.queue.isEmpty()) {
+            if (best != ShortestPaths.UNREACHABLE && forward.topKey() + reverse.topKey() >= 2 * best)
+                break;
+
+            var current = forward.queue.size() <= reverse.queue.size() ? forward : reverse;
+            var other = current == forward ? reverse : forward;
+
+            int vertex = current.queue.poll();
+            current.settled[vertex] = true;
+            expanded++;
+            visitor.vertexSettled(vertex, current.predecessorEdges[vertex]);
+
+            long distance = current.distances[vertex];
+            for (int arc = current.offsets[vertex]; arc < current.offsets[vertex + 1]; arc++) {
+                int next = current.targets[arc];
+                if (current.settled[next])
+                    continue;
+
+                long candidate = distance + current.weights[arc];
+                boolean improved = candidate < current.distances[next];
+                if (improved) {
+                    current.distances[next] = candidate;
+                    current.predecessors[next] = vertex;
+                    current.predecessorEdges[next] = current.edgeIds[arc];
+                    current.queue.offer(next, current.key(next));
+
+                    if (other.distances[next] != ShortestPaths.UNREACHABLE && candidate + other.distances[next] < best) {
+                        best = candidate + other.distances[next];
+                        meeting = next;
+                    }
+                }
+                visitor.arcExamined(vertex, next, current.edgeIds[arc], improved);
+            }
+
+            if (other.distances[vertex] != ShortestPaths.UNREACHABLE && distance + other.distances[vertex] < best) {
+                best = distance + other.distances[vertex];
+                meeting = vertex;
+            }
+        }
+
+        if (meeting < 0)
+            return new PathResult(new int[0], new int[0], ShortestPaths.UNREACHABLE, expanded);
+        return joinPath(forward, reverse, meeting, best, expanded);
+    }
+
+    private static PathResult joinPath(Direction forward, Direction reverse, int meeting, long distance, int expanded) {
+        int forwardLength = 0;
+        for (int v = meeting; v != forward.origin; v = forward.predecessors[v])
+            forwardLength++;
+        int reverseLength = 0;
+        for (int v = meeting; v != reverse.origin; v = reverse.predecessors[v])
+            reverseLength++;
+
+        int[] vertices = new int[forwardLength + reverseLength + 1];
+        int[] edgeIds = new int[forwardLength + reverseLength];
+
+        int v = meeting;
+        for (int i = forwardLength; i > 0; i--) {
+            vertices[i] = v;
+            edgeIds[i - 1] = forward.predecessorEdges[v];
+            v = forward.predecessors[v];
+        }
+        vertices[0] = forward.origin;
+
+        v = meeting;
+        for (int i = forwardLength; i < vertices.length - 1; i++) {
+            edgeIds[i] = reverse.predecessorEdges[v];
+            v = reverse.predecessors[v];
+            vertices[i + 1] = v;
+        }
+
+        return new PathResult(vertices, edgeIds, distance, expanded);
+    }
+
+
+    /**
+     * The state of the search from one end of the path.
+     */
+    private static class Direction {
+        final int origin;
+        final int destination;
+        final EuclideanHeuristic heuristic;
+        final int[] offsets;
+        final int[] targets;
+        final int[] weights;
+        final int[] edgeIds;
+        final long[] distances;
+        final int[] predecessors;
+        final int[] predecessorEdges;
+        final boolean[] settled;
+        final IndexedDaryHeap queue;
+
+        Direction(AdjacencyArrays adjacency, int numberOfVertices, int origin, int destination, EuclideanHeuristic heuristic) {
+            this.origin = origin;
+            this.destination = destination;
+            this.heuristic = heuristic;
+            offsets = adjacency.getOffsets();
+            targets = adjacency.getTargets();
+            weights = adjacency.getWeights();
+            edgeIds = adjacency.getEdgeIds();
+            distances = new long[numberOfVertices];
+            predecessors = new int[numberOfVertices];
+            predecessorEdges = new int[numberOfVertices];
+            settled = new boolean[numberOfVertices];
+            Arrays.fill(distances, ShortestPaths.UNREACHABLE);
+            Arrays.fill(predecessors, -1);
+            Arrays.fill(predecessorEdges, -1);
+
+            queue = new IndexedDaryHeap(numberOfVertices);
+            distances[origin] = 0;
+            queue.offer(origin, key(origin));
+        }
+
+        long key(int vertex) {
+            return 2 * distances[vertex] + heuristic.estimate(vertex, destination) - heuristic.estimate(vertex, origin);
+        }
+
+        long topKey() {
+            return queue.minKey();
+        }
+    }
+}
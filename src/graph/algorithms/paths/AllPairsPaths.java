@@ -0,0 +1,72 @@
+package graph.algorithms.paths;
+
+/**
+ * The shortest paths between all pairs of vertices in flat row-major arrays:
+ * the entries for the path from i to j are at index i * n + j.
+ */
+public class AllPairsPaths {
+
+    /** The distance stored for unreachable pairs. Adding two of them does not overflow. */
+    public static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    private final int numberOfVertices;
+    private final int[] distances;
+    private final int[] nextHops;
+
+    AllPairsPaths(int numberOfVertices, int[] distances, int[] nextHops) {
+        this.numberOfVertices = numberOfVertices;
+        this.distances = distances;
+        this.nextHops = nextHops;
+    }
+
+    public int getNumberOfVertices() {
+        return numberOfVertices;
+    }
+
+    /**
+     * @return The distance from one vertex to another, {@link ShortestPaths#UNREACHABLE} if there is no path.
+     */
+    public long getDistance(int from, int to) {
+        int distance = distances[from * numberOfVertices + to];
+        return distance >= INFINITY ? ShortestPaths.UNREACHABLE : distance;
+    }
+
+    /**
+     * @return The second vertex of the shortest path from one vertex to another, -1 if there is no path or they are the same.
+     */
+    public int getNextHop(int from, int to) {
+        return nextHops[from * numberOfVertices + to];
+    }
+
+    /**
+     * @return The vertices of the shortest path, empty if there is no path.
+     */
+    public int[] getPath(int from, int to) {
+        if (getDistance(from, to) == ShortestPaths.UNREACHABLE)
+            return new int[0];
+
+        int length = 1;
+        for (int v = from; v != to; v = getNextHop(v, to))
+            length++;
+
+        int[] path = new int[length];
+        path[0] = from;
+        for (int i = 1; i < length; i++)
+            path[i] = getNextHop(path[i - 1], to);
+        return path;
+    }
+
+    /**
+     * @return The shared distance buffer, {@link #INFINITY} for unreachable pairs.
+     */
+    public int[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * @return The shared next hop buffer.
+     */
+    public int[] getNextHops() {
+        return nextHops;
+    }
+}
@@ -0,0 +1,68 @@
+package graph.algorithms.paths;
+
+import graph.graph.AdjacencyArrays;
+import graph.graph.Graph;
+
+/**
+ * Dijkstra's single-source shortest paths on {@link AdjacencyArrays}, without any boxing.
+ * The weights are bounded non-negative integers, so the default queue is a {@link RadixHeap}.
+ */
+public class DijkstraEngine {
+
+    /**
+     * @return The shortest paths along the weighted undirected edges of the graph.
+     */
+    public static ShortestPaths shortestPaths(Graph graph, int source) {
+        return shortestPaths(AdjacencyArrays.weightedUndirected(graph), source);
+    }
+
+    public static ShortestPaths shortestPaths(AdjacencyArrays adjacency, int source) {
+        return shortestPaths(adjacency, source, new RadixHeap(adjacency.getNumberOfVertices()), SearchVisitor.NONE);
+    }
+
+    /**
+     * @param queue An empty queue for the vertices of the adjacency.
+     * @throws IllegalArgumentException If there is an arc with a negative weight.
+     */
+    public static ShortestPaths shortestPaths(AdjacencyArrays adjacency, int source, VertexQueue queue, SearchVisitor visitor) {
+        if (adjacency.getNumberOfArcs() > 0 && adjacency.getMinWeight() < 0)
+            throw new IllegalArgumentException("Dijkstra's algorithm needs non-negative weights: " + adjacency.getMinWeight());
+
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        int[] weights = adjacency.getWeights();
+        int[] edgeIds = adjacency.getEdgeIds();
+
+        var paths = ShortestPaths.unreached(source, adjacency.getNumberOfVertices());
+        long[] distances = paths.getDistances();
+        int[] predecessors = paths.getPredecessors();
+        int[] predecessorEdges = paths.getPredecessorEdges();
+        boolean[] settled = new boolean[adjacency.getNumberOfVertices()];
+
+        queue.offer(source, 0);
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            settled[vertex] = true;
+            visitor.vertexSettled(vertex, predecessorEdges[vertex]);
+
+            long distance = distances[vertex];
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int target = targets[arc];
+                if (settled[target])
+                    continue;
+
+                long candidate = distance + weights[arc];
+                boolean improved = candidate < distances[target];
+                if (improved) {
+                    distances[target] = candidate;
+                    predecessors[target] = vertex;
+                    predecessorEdges[target] = edgeIds[arc];
+                    queue.offer(target, candidate);
+                }
+                visitor.arcExamined(vertex, target, edgeIds[arc], improved);
+            }
+        }
+
+        return paths;
+    }
+}
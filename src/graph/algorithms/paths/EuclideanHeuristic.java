@@ -0,0 +1,62 @@
+package graph.algorithms.paths;
+
+import graph.graph.AdjacencyArrays;
+import graph.vertices.Vertex;
+
+import java.util.List;
+
+/**
+ * Estimates the distance between two vertices from their layout coordinates.
+ * The weights do not have to follow the layout: the straight-line distance is multiplied by the smallest
+ * weight per unit of length over all arcs, so the estimate never exceeds the real distance.
+ * The estimate is rounded down to an integer and stays consistent, which A* needs to settle every vertex once.
+ */
+public class EuclideanHeuristic {
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double weightPerLength;
+
+    public EuclideanHeuristic(double[] xs, double[] ys, double weightPerLength) {
+        this.xs = xs;
+        this.ys = ys;
+        this.weightPerLength = weightPerLength;
+    }
+
+    /**
+     * Fits the heuristic to the weights of the adjacency.
+     */
+    public static EuclideanHeuristic of(List<Vertex> vertices, AdjacencyArrays adjacency) {
+        double[] xs = new double[vertices.size()];
+        double[] ys = new double[vertices.size()];
+        for (var vertex : vertices) {
+            xs[vertex.getNumber()] = vertex.center.x();
+            ys[vertex.getNumber()] = vertex.center.y();
+        }
+
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        int[] weights = adjacency.getWeights();
+        double weightPerLength = Double.POSITIVE_INFINITY;
+        for (int v = 0; v < adjacency.getNumberOfVertices(); v++) {
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                double length = Math.hypot(xs[v] - xs[targets[arc]], ys[v] - ys[targets[arc]]);
+                if (length > 0)
+                    weightPerLength = Math.min(weightPerLength, weights[arc] / length);
+            }
+        }
+
+        return new EuclideanHeuristic(xs, ys, Double.isInfinite(weightPerLength) ? 0 : Math.max(0, weightPerLength));
+    }
+
+    /**
+     * @return A lower bound of the distance between the vertices.
+     */
+    public long estimate(int from, int to) {
+        return (long) Math.floor(weightPerLength * Math.hypot(xs[from] - xs[to], ys[from] - ys[to]));
+    }
+
+    public double getWeightPerLength() {
+        return weightPerLength;
+    }
+}
@@ -0,0 +1,239 @@
+package graph.algorithms.paths;
+
+import graph.graph.AdjacencyArrays;
+import graph.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * All-pairs shortest paths on a weights matrix.
+ * <p>
+ * Dense inputs go through a cache-blocked Floyd-Warshall: the matrix is split into {@value BLOCK} x {@value BLOCK}
+ * tiles and every phase first updates its diagonal tile, then its row and column of tiles in parallel, then all the
+ * other tiles in parallel. Sparse inputs go through Dijkstra's algorithm from every vertex in parallel instead,
+ * which is cheaper when the number of edges is far below the square of the number of vertices.
+ */
+public class FloydWarshallEngine {
+
+    public enum Strategy {
+        /** Picks the cheaper method from the density of the graph. */
+        AUTO,
+        FLOYD_WARSHALL,
+        DIJKSTRA
+    }
+
+    private static final int BLOCK = 64;
+    private static final int SOURCES_PER_TASK = 16;
+    /** Dijkstra is used when the edges times log2 of the vertices times this factor is less than the vertices squared. */
+    private static final int DIJKSTRA_COST_FACTOR = 10;
+    private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+    /**
+     * @return The shortest paths along the weighted undirected edges of the graph.
+     */
+    public static AllPairsPaths compute(Graph graph) {
+        return compute(graph.getWeightsMatrix(), Strategy.AUTO);
+    }
+
+    /**
+     * @param weightsMatrix A weight of 0 outside the diagonal means there is no edge. The weights must not be negative.
+     */
+    public static AllPairsPaths compute(int[][] weightsMatrix, Strategy strategy) {
+        int n = weightsMatrix.length;
+        if (strategy == Strategy.AUTO)
+            strategy = isSparse(weightsMatrix) ? Strategy.DIJKSTRA : Strategy.FLOYD_WARSHALL;
+
+        return strategy == Strategy.DIJKSTRA
+                ? repeatedDijkstra(AdjacencyArrays.ofWeightsMatrix(weightsMatrix))
+                : floydWarshall(weightsMatrix, n);
+    }
+
+    private static boolean isSparse(int[][] weightsMatrix) {
+        int n = weightsMatrix.length;
+        long arcs = 0;
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                if (i != j && weightsMatrix[i][j] != 0)
+                    arcs++;
+
+        double log = Math.max(1, 31 - Integer.numberOfLeadingZeros(Math.max(1, n)));
+        return arcs * log * DIJKSTRA_COST_FACTOR < (double) n * n;
+    }
+
+    private static AllPairsPaths floydWarshall(int[][] weightsMatrix, int n) {
+        int[] distances = new int[n * n];
+        int[] nextHops = new int[n * n];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int index = i * n + j;
+                int weight = weightsMatrix[i][j];
+                if (i == j) {
+                    distances[index] = 0;
+                    nextHops[index] = -1;
+                } else if (weight != 0) {
+                    if (weight < 0)
+                        throw new IllegalArgumentException("Negative weight from " + i + " to " + j + ": " + weight);
+                    distances[index] = weight;
+                    nextHops[index] = j;
+                } else {
+                    distances[index] = AllPairsPaths.INFINITY;
+                    nextHops[index] = -1;
+                }
+            }
+        }
+
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        for (int k = 0; k < blocks; k++) {
+            new TileTask(distances, nextHops, n, k, k, k).invoke();
+
+            List<TileTask> tasks = new ArrayList<>();
+            for (int b = 0; b < blocks; b++) {
+                if (b == k)
+                    continue;
+                tasks.add(new TileTask(distances, nextHops, n, k, b, k));
+                tasks.add(new TileTask(distances, nextHops, n, b, k, k));
+            }
+            runAll(tasks);
+
+            tasks.clear();
+            for (int i = 0; i < blocks; i++) {
+                for (int j = 0; j < blocks; j++)
+                    if (i != k && j != k)
+                        tasks.add(new TileTask(distances, nextHops, n, i, j, k));
+            }
+            runAll(tasks);
+        }
+
+        return new AllPairsPaths(n, distances, nextHops);
+    }
+
+    private static void runAll(List<TileTask> tasks) {
+        if (!tasks.isEmpty())
+            POOL.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    ForkJoinTask.invokeAll(tasks);
+                }
+            });
+    }
+
+    private static AllPairsPaths repeatedDijkstra(AdjacencyArrays adjacency) {
+        int n = adjacency.getNumberOfVertices();
+        int[] distances = new int[n * n];
+        int[] nextHops = new int[n * n];
+
+        POOL.invoke(new DijkstraTask(adjacency, distances, nextHops, 0, n));
+
+        return new AllPairsPaths(n, distances, nextHops);
+    }
+
+
+    /**
+     * Relaxes the tile at the given block row and column through the vertices of block k.
+     * The k loop is the outer one, so the tile may be the row or column tile of the phase itself.
+     */
+    private static class TileTask extends RecursiveAction {
+        private final int[] distances;
+        private final int[] nextHops;
+        private final int n;
+        private final int blockRow;
+        private final int blockColumn;
+        private final int blockK;
+
+        TileTask(int[] distances, int[] nextHops, int n, int blockRow, int blockColumn, int blockK) {
+            this.distances = distances;
+            this.nextHops = nextHops;
+            this.n = n;
+            this.blockRow = blockRow;
+            this.blockColumn = blockColumn;
+            this.blockK = blockK;
+        }
+
+        @Override
+        protected void compute() {
+            int rowEnd = Math.min(n, (blockRow + 1) * BLOCK);
+            int columnStart = blockColumn * BLOCK;
+            int columnEnd = Math.min(n, columnStart + BLOCK);
+            int kEnd = Math.min(n, (blockK + 1) * BLOCK);
+
+            for (int k = blockK * BLOCK; k < kEnd; k++) {
+                int kRow = k * n;
+                for (int i = blockRow * BLOCK; i < rowEnd; i++) {
+                    int iRow = i * n;
+                    int throughK = distances[iRow + k];
+                    if (throughK >= AllPairsPaths.INFINITY)
+                        continue;
+                    int hop = nextHops[iRow + k];
+
+                    for (int j = columnStart; j < columnEnd; j++) {
+                        int candidate = throughK + distances[kRow + j];
+                        if (candidate < distances[iRow + j]) {
+                            distances[iRow + j] = candidate;
+                            nextHops[iRow + j] = hop;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static class DijkstraTask extends RecursiveAction {
+        private final AdjacencyArrays adjacency;
+        private final int[] distances;
+        private final int[] nextHops;
+        private final int from;
+        private final int to;
+
+        DijkstraTask(AdjacencyArrays adjacency, int[] distances, int[] nextHops, int from, int to) {
+            this.adjacency = adjacency;
+            this.distances = distances;
+            this.nextHops = nextHops;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SOURCES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DijkstraTask(adjacency, distances, nextHops, from, middle),
+                        new DijkstraTask(adjacency, distances, nextHops, middle, to));
+                return;
+            }
+
+            int n = adjacency.getNumberOfVertices();
+            var queue = new RadixHeap(n);
+            int[] settleOrder = new int[n];
+
+            for (int source = from; source < to; source++) {
+                queue.clear();
+                var settled = new int[]{0};
+                var paths = DijkstraEngine.shortestPaths(adjacency, source, queue, new SearchVisitor() {
+                    @Override
+                    public void vertexSettled(int vertex, int edgeId) {
+                        settleOrder[settled[0]++] = vertex;
+                    }
+                });
+
+                long[] sourceDistances = paths.getDistances();
+                int[] predecessors = paths.getPredecessors();
+                int row = source * n;
+                Arrays.fill(distances, row, row + n, AllPairsPaths.INFINITY);
+                Arrays.fill(nextHops, row, row + n, -1);
+
+                for (int i = 0; i < settled[0]; i++) {
+                    int vertex = settleOrder[i];
+                    distances[row + vertex] = (int) Math.min(sourceDistances[vertex], AllPairsPaths.INFINITY);
+                    if (vertex != source)
+                        nextHops[row + vertex] = predecessors[vertex] == source ? vertex : nextHops[row + predecessors[vertex]];
+                }
+            }
+        }
+    }
+}
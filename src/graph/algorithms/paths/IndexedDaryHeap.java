@@ -0,0 +1,132 @@
+package graph.algorithms.paths;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An indexed d-ary min-heap on primitive arrays. Every vertex knows its position in the heap,
+ * so lowering a key is a sift up rather than a second insertion.
+ * A bigger arity makes the heap shallower, which suits Dijkstra's algorithm with many more
+ * key decreases than removals.
+ */
+public class IndexedDaryHeap implements VertexQueue {
+
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private final int[] heap;
+    private final int[] positions;
+    private final long[] keys;
+    private int size = 0;
+
+    public IndexedDaryHeap(int numberOfVertices) {
+        this(numberOfVertices, DEFAULT_ARITY);
+    }
+
+    public IndexedDaryHeap(int numberOfVertices, int arity) {
+        if (arity < 2)
+            throw new IllegalArgumentException("The arity must be at least 2: " + arity);
+        this.arity = arity;
+        heap = new int[numberOfVertices];
+        positions = new int[numberOfVertices];
+        keys = new long[numberOfVertices];
+        Arrays.fill(positions, -1);
+    }
+
+    @Override
+    public void offer(int vertex, long key) {
+        int position = positions[vertex];
+        if (position < 0) {
+            keys[vertex] = key;
+            heap[size] = vertex;
+            positions[vertex] = size;
+            siftUp(size++);
+        } else if (key < keys[vertex]) {
+            keys[vertex] = key;
+            siftUp(position);
+        }
+    }
+
+    @Override
+    public int poll() {
+        if (size == 0)
+            throw new NoSuchElementException();
+
+        int min = heap[0];
+        positions[min] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * @return The smallest key in the heap.
+     * @throws NoSuchElementException If the heap is empty.
+     */
+    public long minKey() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return keys[heap[0]];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            positions[heap[i]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int vertex = heap[position];
+        long key = keys[vertex];
+
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (keys[heap[parent]] <= key)
+                break;
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(vertex, position);
+    }
+
+    private void siftDown(int position) {
+        int vertex = heap[position];
+        long key = keys[vertex];
+
+        while (true) {
+            int first = position * arity + 1;
+            if (first >= size)
+                break;
+
+            int min = first;
+            int last = Math.min(first + arity, size);
+            for (int child = first + 1; child < last; child++)
+                if (keys[heap[child]] < keys[heap[min]])
+                    min = child;
+
+            if (keys[heap[min]] >= key)
+                break;
+            move(heap[min], position);
+            position = min;
+        }
+        move(vertex, position);
+    }
+
+    private void move(int vertex, int position) {
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+}
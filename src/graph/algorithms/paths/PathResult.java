@@ -0,0 +1,51 @@
+package graph.algorithms.paths;
+
+/**
+ * A shortest path between two vertices found by a point-to-point search.
+ */
+public class PathResult {
+
+    private final int[] vertices;
+    private final int[] edgeIds;
+    private final long distance;
+    private final int expandedVertices;
+
+    public PathResult(int[] vertices, int[] edgeIds, long distance, int expandedVertices) {
+        this.vertices = vertices;
+        this.edgeIds = edgeIds;
+        this.distance = distance;
+        this.expandedVertices = expandedVertices;
+    }
+
+    public boolean isFound() {
+        return vertices.length > 0;
+    }
+
+    /**
+     * @return The vertices from the source to the target, empty if the target is unreachable.
+     */
+    public int[] getVertices() {
+        return vertices;
+    }
+
+    /**
+     * @return The ids of the edges of the path, one less than the vertices.
+     */
+    public int[] getEdgeIds() {
+        return edgeIds;
+    }
+
+    /**
+     * @return The length of the path, {@link ShortestPaths#UNREACHABLE} if there is none.
+     */
+    public long getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return How many vertices were settled by the search, in both directions.
+     */
+    public int getExpandedVertices() {
+        return expandedVertices;
+    }
+}
@@ -0,0 +1,14 @@
+package graph.algorithms.paths;
+
+/**
+ * Receives the paths of a {@link SimplePathEngine} one by one.
+ */
+@FunctionalInterface
+public interface PathVisitor {
+
+    /**
+     * @param path The vertices of the path from its start. The array is reused for the next path,
+     *             so it must be copied to be kept.
+     */
+    void visit(int[] path);
+}
@@ -0,0 +1,132 @@
+package graph.algorithms.paths;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A monotone radix heap for non-negative integer keys. It only accepts keys that are not smaller
+ * than the last removed one, which always holds in Dijkstra's algorithm with non-negative weights.
+ * <p>
+ * Bucket i holds the keys whose highest bit that differs from the last removed key is bit i - 1,
+ * so every entry moves to a lower bucket at most 64 times. A lowered key is inserted again and the
+ * outdated entry is dropped when it is reached.
+ */
+public class RadixHeap implements VertexQueue {
+
+    private static final int BUCKETS = 65;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final int[][] bucketVertices = new int[BUCKETS][];
+    private final long[][] bucketKeys = new long[BUCKETS][];
+    private final int[] bucketSizes = new int[BUCKETS];
+    private final long[] keys;
+    private final boolean[] queued;
+    private long last = 0;
+    private int size = 0;
+
+    public RadixHeap(int numberOfVertices) {
+        keys = new long[numberOfVertices];
+        queued = new boolean[numberOfVertices];
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketVertices[i] = new int[INITIAL_BUCKET_CAPACITY];
+            bucketKeys[i] = new long[INITIAL_BUCKET_CAPACITY];
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException If the key is smaller than the last removed key.
+     */
+    @Override
+    public void offer(int vertex, long key) {
+        if (key < last)
+            throw new IllegalArgumentException("The key " + key + " is smaller than the last removed key " + last);
+
+        if (!queued[vertex]) {
+            queued[vertex] = true;
+            size++;
+        } else if (key >= keys[vertex]) {
+            return;
+        }
+        keys[vertex] = key;
+        add(bucketOf(key), vertex, key);
+    }
+
+    @Override
+    public int poll() {
+        if (size == 0)
+            throw new NoSuchElementException();
+
+        while (true) {
+            if (bucketSizes[0] == 0) {
+                redistribute();
+                continue;
+            }
+
+            int index = --bucketSizes[0];
+            int vertex = bucketVertices[0][index];
+            if (queued[vertex] && bucketKeys[0][index] == keys[vertex]) {
+                queued[vertex] = false;
+                size--;
+                return vertex;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(bucketSizes, 0);
+        Arrays.fill(queued, false);
+        last = 0;
+        size = 0;
+    }
+
+    /**
+     * Moves the first non-empty bucket down, after making its smallest valid key the last key.
+     * Outdated entries are dropped on the way.
+     */
+    private void redistribute() {
+        int bucket = 1;
+        while (bucketSizes[bucket] == 0)
+            bucket++;
+
+        int[] vertices = bucketVertices[bucket];
+        long[] entryKeys = bucketKeys[bucket];
+        int count = bucketSizes[bucket];
+        bucketSizes[bucket] = 0;
+
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++)
+            if (isCurrent(vertices[i], entryKeys[i]))
+                min = Math.min(min, entryKeys[i]);
+        if (min == Long.MAX_VALUE)
+            return;
+
+        last = min;
+        for (int i = 0; i < count; i++)
+            if (isCurrent(vertices[i], entryKeys[i]))
+                add(bucketOf(entryKeys[i]), vertices[i], entryKeys[i]);
+    }
+
+    private boolean isCurrent(int vertex, long key) {
+        return queued[vertex] && keys[vertex] == key;
+    }
+
+    private int bucketOf(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void add(int bucket, int vertex, long key) {
+        int index = bucketSizes[bucket]++;
+        if (index == bucketVertices[bucket].length) {
+            bucketVertices[bucket] = Arrays.copyOf(bucketVertices[bucket], 2 * index);
+            bucketKeys[bucket] = Arrays.copyOf(bucketKeys[bucket], 2 * index);
+        }
+        bucketVertices[bucket][index] = vertex;
+        bucketKeys[bucket][index] = key;
+    }
+}
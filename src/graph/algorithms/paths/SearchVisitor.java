@@ -0,0 +1,24 @@
+package graph.algorithms.paths;
+
+/**
+ * Receives the progress of a shortest path search, e.g. to visualize it.
+ * All the methods do nothing by default.
+ */
+public interface SearchVisitor {
+
+    SearchVisitor NONE = new SearchVisitor() {};
+
+    /**
+     * The arc from one vertex to another was examined.
+     * @param improved Whether it gave a shorter distance to the target vertex.
+     */
+    default void arcExamined(int from, int to, int edgeId, boolean improved) {
+    }
+
+    /**
+     * The final distance of the vertex is known.
+     * @param edgeId The last edge of its shortest path, -1 for the source.
+     */
+    default void vertexSettled(int vertex, int edgeId) {
+    }
+}
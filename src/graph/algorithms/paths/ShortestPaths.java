@@ -0,0 +1,81 @@
+package graph.algorithms.paths;
+
+import java.util.Arrays;
+
+/**
+ * The shortest paths from one source vertex. The arrays are indexed by vertex number
+ * and are shared, not copied.
+ */
+public class ShortestPaths {
+
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final int source;
+    private final long[] distances;
+    private final int[] predecessors;
+    private final int[] predecessorEdges;
+
+    public ShortestPaths(int source, long[] distances, int[] predecessors, int[] predecessorEdges) {
+        this.source = source;
+        this.distances = distances;
+        this.predecessors = predecessors;
+        this.predecessorEdges = predecessorEdges;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * @return The distance to every vertex, {@link #UNREACHABLE} for the unreachable ones.
+     */
+    public long[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * @return The vertex before every vertex on its shortest path, -1 for the source and the unreachable vertices.
+     */
+    public int[] getPredecessors() {
+        return predecessors;
+    }
+
+    /**
+     * @return The id of the last edge of the shortest path to every vertex, -1 if there is none.
+     */
+    public int[] getPredecessorEdges() {
+        return predecessorEdges;
+    }
+
+    public boolean isReachable(int vertex) {
+        return distances[vertex] != UNREACHABLE;
+    }
+
+    /**
+     * @return The vertices of the shortest path from the source to the target, or an empty array if it is unreachable.
+     */
+    public int[] pathTo(int target) {
+        if (!isReachable(target))
+            return new int[0];
+
+        int length = 1;
+        for (int v = target; v != source; v = predecessors[v])
+            length++;
+
+        int[] path = new int[length];
+        for (int v = target, i = length - 1; i >= 0; v = predecessors[v], i--)
+            path[i] = v;
+        return path;
+    }
+
+    static ShortestPaths unreached(int source, int numberOfVertices) {
+        long[] distances = new long[numberOfVertices];
+        int[] predecessors = new int[numberOfVertices];
+        int[] predecessorEdges = new int[numberOfVertices];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(predecessors, -1);
+        Arrays.fill(predecessorEdges, -1);
+        distances[source] = 0;
+        return new ShortestPaths(source, distances, predecessors, predecessorEdges);
+    }
+}
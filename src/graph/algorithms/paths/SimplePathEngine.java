@@ -0,0 +1,276 @@
+package graph.algorithms.paths;
+
+import graph.graph.AdjacencyArrays;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Enumerates the simple paths of a given length, the number of arcs, without holding them in memory:
+ * a depth-first search from every start vertex that never goes back to a vertex already on the path.
+ * The paths are given to a visitor or an iterator one at a time, and counting does not build the last step at all,
+ * it only adds up the arcs that leave the path. The parallel methods split the start vertices
+ * into chunks of {@value VERTICES_PER_TASK} on a {@link ForkJoinPool}.
+ * <p>
+ * The paths come in the order of the start vertex, then of the second vertex and so on,
+ * as the arcs of {@link AdjacencyArrays} are sorted by target.
+ */
+public class SimplePathEngine {
+
+    private static final int VERTICES_PER_TASK = 16;
+    private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+    /**
+     * Gives every simple path of the length to the visitor, in order, on the calling thread.
+     */
+    public static void forEach(AdjacencyArrays adjacency, int length, PathVisitor visitor) {
+        checkLength(length);
+        var path = new int[length + 1];
+        for (int start = 0; start < adjacency.getNumberOfVertices(); start++) {
+            path[0] = start;
+            visit(adjacency, path, 0, length, visitor);
+        }
+    }
+
+    /**
+     * Gives the visitor every simple path that is the given path with one more arc, in the order of the new last vertex.
+     * @param path A simple path of at least one vertex. It is not changed.
+     */
+    public static void forEachExtension(AdjacencyArrays adjacency, int[] path, PathVisitor visitor) {
+        if (path.length == 0)
+            throw new IllegalArgumentException("A path to extend needs at least one vertex");
+        var extended = Arrays.copyOf(path, path.length + 1);
+        visit(adjacency, extended, path.length - 1, path.length, visitor);
+    }
+
+    /**
+     * Gives every simple path of the length to the visitor from several threads at once and in no particular order,
+     * so the visitor must be thread-safe.
+     */
+    public static void forEachParallel(AdjacencyArrays adjacency, int length, PathVisitor visitor) {
+        checkLength(length);
+        POOL.invoke(new VisitTask(adjacency, length, visitor, 0, adjacency.getNumberOfVertices()));
+    }
+
+    /**
+     * @return The paths one by one, every one in a new array.
+     */
+    public static Iterator<int[]> iterator(AdjacencyArrays adjacency, int length) {
+        checkLength(length);
+        return new PathIterator(adjacency, length);
+    }
+
+    /**
+     * @return The number of the simple paths of the length, counted in parallel.
+     */
+    public static long count(AdjacencyArrays adjacency, int length) {
+        checkLength(length);
+        return POOL.invoke(new CountTask(adjacency, length, 0, adjacency.getNumberOfVertices()));
+    }
+
+    /**
+     * @return The number of the simple paths of the length from the vertex.
+     */
+    public static long count(AdjacencyArrays adjacency, int length, int start) {
+        checkLength(length);
+        var path = new int[length + 1];
+        path[0] = start;
+        return count(adjacency, path, 0, length);
+    }
+
+    private static void visit(AdjacencyArrays adjacency, int[] path, int depth, int length, PathVisitor visitor) {
+        if (depth == length) {
+            visitor.visit(path);
+            return;
+        }
+
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        int vertex = path[depth];
+        for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+            int target = targets[arc];
+            if (isOnPath(path, depth, target))
+                continue;
+            path[depth + 1] = target;
+            visit(adjacency, path, depth + 1, length, visitor);
+        }
+    }
+
+    private static long count(AdjacencyArrays adjacency, int[] path, int depth, int length) {
+        if (depth == length)
+            return 1;
+
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        int vertex = path[depth];
+        long count = 0;
+        for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+            int target = targets[arc];
+            if (isOnPath(path, depth, target))
+                continue;
+            if (depth + 1 == length) {
+                count++;
+            } else {
+                path[depth + 1] = target;
+                count += count(adjacency, path, depth + 1, length);
+            }
+        }
+        return count;
+    }
+
+    private static boolean isOnPath(int[] path, int depth, int vertex) {
+        for (int i = 0; i <= depth; i++) {
+            if (path[i] == vertex)
+                return true;
+        }
+        return false;
+    }
+
+    private static void checkLength(int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("The length of a path can't be negative: " + length);
+    }
+
+
+    private static class VisitTask extends RecursiveAction {
+        private final AdjacencyArrays adjacency;
+        private final int length;
+        private final PathVisitor visitor;
+        private final int from;
+        private final int to;
+
+        VisitTask(AdjacencyArrays adjacency, int length, PathVisitor visitor, int from, int to) {
+            this.adjacency = adjacency;
+            this.length = length;
+            this.visitor = visitor;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > VERTICES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new VisitTask(adjacency, length, visitor, from, middle),
+                        new VisitTask(adjacency, length, visitor, middle, to));
+                return;
+            }
+
+            var path = new int[length + 1];
+            for (int start = from; start < to; start++) {
+                path[0] = start;
+                visit(adjacency, path, 0, length, visitor);
+            }
+        }
+    }
+
+    private static class CountTask extends RecursiveTask<Long> {
+        private final AdjacencyArrays adjacency;
+        private final int length;
+        private final int from;
+        private final int to;
+
+        CountTask(AdjacencyArrays adjacency, int length, int from, int to) {
+            this.adjacency = adjacency;
+            this.length = length;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > VERTICES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                var left = new CountTask(adjacency, length, from, middle);
+                left.fork();
+                long right = new CountTask(adjacency, length, middle, to).compute();
+                return left.join() + right;
+            }
+
+            var path = new int[length + 1];
+            long count = 0;
+            for (int start = from; start < to; start++) {
+                path[0] = start;
+                count += count(adjacency, path, 0, length);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The depth-first search of {@link #forEach} with an explicit stack, stopped after every path.
+     */
+    private static class PathIterator implements Iterator<int[]> {
+        private final AdjacencyArrays adjacency;
+        private final int length;
+        private final int[] path;
+        private final int[] cursors;
+        private int depth = -1;
+        private int start = -1;
+        private boolean ready;
+
+        PathIterator(AdjacencyArrays adjacency, int length) {
+            this.adjacency = adjacency;
+            this.length = length;
+            path = new int[length + 1];
+            cursors = new int[length + 1];
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready)
+                ready = advance();
+            return ready;
+        }
+
+        @Override
+        public int[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            ready = false;
+            return path.clone();
+        }
+
+        /**
+         * Moves to the next path.
+         * @return False if there are no more paths.
+         */
+        private boolean advance() {
+            int[] offsets = adjacency.getOffsets();
+            int[] targets = adjacency.getTargets();
+            if (depth == length)
+                depth--;
+
+            while (true) {
+                if (depth < 0) {
+                    if (start + 1 >= adjacency.getNumberOfVertices())
+                        return false;
+                    path[0] = ++start;
+                    cursors[0] = offsets[start];
+                    depth = 0;
+                    if (length == 0)
+                        return true;
+                    continue;
+                }
+
+                int vertex = path[depth];
+                if (cursors[depth] == offsets[vertex + 1]) {
+                    depth--;
+                    continue;
+                }
+
+                int target = targets[cursors[depth]++];
+                if (isOnPath(path, depth, target))
+                    continue;
+                path[++depth] = target;
+                if (depth == length)
+                    return true;
+                cursors[depth] = offsets[target];
+            }
+        }
+    }
+}
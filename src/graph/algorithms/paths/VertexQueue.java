@@ -0,0 +1,25 @@
+package graph.algorithms.paths;
+
+/**
+ * A priority queue of vertices by distance, as used by Dijkstra's algorithm.
+ * Every vertex is in the queue at most once, offering it again can only lower its key.
+ */
+public interface VertexQueue {
+
+    /**
+     * Inserts the vertex, or lowers its key if it is already in the queue and the new key is smaller.
+     */
+    void offer(int vertex, long key);
+
+    /**
+     * @return The vertex with the smallest key, which is removed from the queue.
+     */
+    int poll();
+
+    boolean isEmpty();
+
+    /**
+     * Removes all the vertices, so the queue can be reused for another search.
+     */
+    void clear();
+}
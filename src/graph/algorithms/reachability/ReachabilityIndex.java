@@ -0,0 +1,391 @@
+package graph.algorithms.reachability;
+
+import graph.graph.AdjacencyArrays;
+import graph.graph.AnalysisCache.Analysis;
+import graph.graph.Graph;
+import graph.graph.GraphPart;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Answers whether one vertex of a directed graph reaches another without the dense reachability matrix.
+ * <p>
+ * The strongly connected components are found with Tarjan's algorithm and every component of the condensation
+ * gets {@value #TRAVERSALS} interval labels from randomized post-order traversals (GRAIL): if a component reaches
+ * another, each of its intervals contains the interval of the other. Most negative queries stop at the labels;
+ * the rest search the condensation, skipping every component whose labels rule out the target.
+ * The memory is O(V + E) for the condensation plus {@value #TRAVERSALS} pairs of ints per component.
+ * <p>
+ * The index is immutable and safe to query from any thread. Like the reachability matrix,
+ * every vertex reaches itself.
+ */
+public class ReachabilityIndex {
+
+    private static final int TRAVERSALS = 3;
+    private static final int SEED = 3320;
+
+    /** The index of the directed graph, cached by the graph until its directed edges change. */
+    public static final Analysis<ReachabilityIndex> ANALYSIS = new Analysis<>("reachabilityIndex",
+            graph -> build(AdjacencyArrays.directed(graph)), GraphPart.DIRECTED_EDGES);
+
+    private final int numberOfVertices;
+    private final int[] components;
+    private final int[] memberOffsets;
+    private final int[] members;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] lows;
+    private final int[] ranks;
+    private final ThreadLocal<Search> searches;
+
+    private ReachabilityIndex(int[] components, int numberOfComponents, int[] offsets, int[] targets) {
+        numberOfVertices = components.length;
+        this.components = components;
+        this.offsets = offsets;
+        this.targets = targets;
+
+        memberOffsets = new int[numberOfComponents + 1];
+        for (int component : components)
+            memberOffsets[component + 1]++;
+        for (int c = 0; c < numberOfComponents; c++)
+            memberOffsets[c + 1] += memberOffsets[c];
+        members = new int[numberOfVertices];
+        var next = Arrays.copyOf(memberOffsets, numberOfComponents);
+        for (int v = 0; v < numberOfVertices; v++)
+            members[next[components[v]]++] = v;
+
+        lows = new int[TRAVERSALS * numberOfComponents];
+        ranks = new int[TRAVERSALS * numberOfComponents];
+        label();
+        searches = ThreadLocal.withInitial(() -> new Search(numberOfComponents));
+    }
+
+    /**
+     * @return The index of the graph, built once and reused until the directed edges change.
+     */
+    public static ReachabilityIndex of(Graph graph) {
+        return graph.getAnalysisCache().get(ANALYSIS);
+    }
+
+    /**
+     * @param directedGraphMatrix The matrix as the one {@code GraphHelper.calculateReachabilityMatrix} takes.
+     */
+    public static ReachabilityIndex build(int[][] directedGraphMatrix) {
+        return build(AdjacencyArrays.ofWeightsMatrix(directedGraphMatrix));
+    }
+
+    /**
+     * @param adjacency A directed adjacency.
+     */
+    public static ReachabilityIndex build(AdjacencyArrays adjacency) {
+        var n = adjacency.getNumberOfVertices();
+        var components = new int[n];
+        var numberOfComponents = findStrongComponents(adjacency, components);
+
+        var vertexOffsets = adjacency.getOffsets();
+        var vertexTargets = adjacency.getTargets();
+        var byComponent = new int[n];
+        var firstOfComponent = new int[numberOfComponents + 1];
+        for (int v = 0; v < n; v++)
+            firstOfComponent[components[v] + 1]++;
+        for (int c = 0; c < numberOfComponents; c++)
+            firstOfComponent[c + 1] += firstOfComponent[c];
+        var next = Arrays.copyOf(firstOfComponent, numberOfComponents);
+        for (int v = 0; v < n; v++)
+            byComponent[next[components[v]]++] = v;
+
+        var marks = new int[numberOfComponents];
+        Arrays.fill(marks, -1);
+        var offsets = new int[numberOfComponents + 1];
+        var targets = new int[adjacency.getNumberOfArcs()];
+        var count = 0;
+        for (int c = 0; c < numberOfComponents; c++) {
+            offsets[c] = count;
+            marks[c] = c;
+            for (int i = firstOfComponent[c]; i < firstOfComponent[c + 1]; i++) {
+                var v = byComponent[i];
+                for (int arc = vertexOffsets[v]; arc < vertexOffsets[v + 1]; arc++) {
+                    var target = components[vertexTargets[arc]];
+                    if (marks[target] != c) {
+                        marks[target] = c;
+                        targets[count++] = target;
+                    }
+                }
+            }
+        }
+        offsets[numberOfComponents] = count;
+
+        return new ReachabilityIndex(components, numberOfComponents, offsets, Arrays.copyOf(targets, count));
+    }
+
+    public int getNumberOfVertices() {
+        return numberOfVertices;
+    }
+
+    public int getNumberOfComponents() {
+        return memberOffsets.length - 1;
+    }
+
+    /**
+     * @return The strongly connected component of the vertex. Edges of the condensation always go to smaller components.
+     */
+    public int getComponent(int vertex) {
+        return components[vertex];
+    }
+
+    public boolean areStronglyConnected(int vertex1, int vertex2) {
+        return components[vertex1] == components[vertex2];
+    }
+
+    /**
+     * @return True if there is a path from the first vertex to the second one, or they are the same.
+     */
+    public boolean reaches(int from, int to) {
+        var source = components[from];
+        var target = components[to];
+        if (source == target)
+            return true;
+        if (source < target || !contains(lows, ranks, source, target))
+            return false;
+        return searches.get().run(offsets, targets, lows, ranks, source, target);
+    }
+
+    /**
+     * @return The vertices the vertex reaches, itself included, in increasing order.
+     */
+    public int[] getReachableVertices(int from) {
+        var reached = searches.get().collect(offsets, targets, components[from]);
+        var vertices = new int[numberOfVertices];
+        var count = 0;
+        for (var component : reached) {
+            for (int i = memberOffsets[component]; i < memberOffsets[component + 1]; i++)
+                vertices[count++] = members[i];
+        }
+        var result = Arrays.copyOf(vertices, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * @return The same matrix as {@code GraphHelper.calculateReachabilityMatrix}, for the callers that need all of it.
+     */
+    public int[][] toMatrix() {
+        var matrix = new int[numberOfVertices][numberOfVertices];
+        var numberOfComponents = getNumberOfComponents();
+        var search = searches.get();
+        for (int c = 0; c < numberOfComponents; c++) {
+            var row = new int[numberOfVertices];
+            for (var component : search.collect(offsets, targets, c)) {
+                for (int i = memberOffsets[component]; i < memberOffsets[component + 1]; i++)
+                    row[members[i]] = 1;
+            }
+            for (int i = memberOffsets[c]; i < memberOffsets[c + 1]; i++)
+                matrix[members[i]] = i == memberOffsets[c] ? row : row.clone();
+        }
+        return matrix;
+    }
+
+    /**
+     * @return False if the labels rule out that the component reaches the other one.
+     */
+    private static boolean contains(int[] lows, int[] ranks, int component, int other) {
+        var numberOfComponents = lows.length / TRAVERSALS;
+        for (int t = 0, base = 0; t < TRAVERSALS; t++, base += numberOfComponents) {
+            if (lows[base + component] > lows[base + other] || ranks[base + other] > ranks[base + component])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Labels every component with the interval from the smallest rank below it to its own post-order rank,
+     * in {@value #TRAVERSALS} traversals that start from the sources and take the arcs in random orders.
+     */
+    private void label() {
+        var numberOfComponents = getNumberOfComponents();
+        var hasPredecessor = new boolean[numberOfComponents];
+        for (int target : targets)
+            hasPredecessor[target] = true;
+
+        var random = new Random(SEED);
+        var stack = new int[numberOfComponents];
+        var cursors = new int[numberOfComponents];
+        var starts = new int[numberOfComponents];
+        var visited = new boolean[numberOfComponents];
+        for (int t = 0, base = 0; t < TRAVERSALS; t++, base += numberOfComponents) {
+            Arrays.fill(visited, false);
+            var rank = 0;
+            var offset = random.nextInt(Math.max(numberOfComponents, 1));
+            for (int i = 0; i < numberOfComponents; i++) {
+                var root = (i + offset) % numberOfComponents;
+                if (hasPredecessor[root] || visited[root])
+                    continue;
+
+                var top = 0;
+                stack[top++] = root;
+                visited[root] = true;
+                starts[root] = randomStart(random, root);
+                cursors[root] = 0;
+                lows[base + root] = Integer.MAX_VALUE;
+                while (top > 0) {
+                    var component = stack[top - 1];
+                    var degree = offsets[component + 1] - offsets[component];
+                    if (cursors[component] < degree) {
+                        var child = targets[offsets[component] + (starts[component] + cursors[component]++) % degree];
+                        if (!visited[child]) {
+                            visited[child] = true;
+                            starts[child] = randomStart(random, child);
+                            cursors[child] = 0;
+                            lows[base + child] = Integer.MAX_VALUE;
+                            stack[top++] = child;
+                        } else {
+                            lows[base + component] = Math.min(lows[base + component], lows[base + child]);
+                        }
+                        continue;
+                    }
+
+                    top--;
+                    ranks[base + component] = ++rank;
+                    lows[base + component] = Math.min(lows[base + component], rank);
+                    if (top > 0)
+                        lows[base + stack[top - 1]] = Math.min(lows[base + stack[top - 1]], lows[base + component]);
+                }
+            }
+        }
+    }
+
+    private int randomStart(Random random, int component) {
+        var degree = offsets[component + 1] - offsets[component];
+        return degree > 1 ? random.nextInt(degree) : 0;
+    }
+
+    /**
+     * Tarjan's algorithm with an explicit stack. The components are numbered in the order they are completed,
+     * so every arc between components goes from a bigger number to a smaller one.
+     * @return The number of components.
+     */
+    private static int findStrongComponents(AdjacencyArrays adjacency, int[] components) {
+        var n = adjacency.getNumberOfVertices();
+        var offsets = adjacency.getOffsets();
+        var targets = adjacency.getTargets();
+        var indices = new int[n];
+        var lowLinks = new int[n];
+        var cursors = new int[n];
+        var callStack = new int[n];
+        var componentStack = new int[n];
+        var onStack = new boolean[n];
+        Arrays.fill(indices, -1);
+
+        var index = 0;
+        var numberOfComponents = 0;
+        var componentTop = 0;
+        for (int root = 0; root < n; root++) {
+            if (indices[root] >= 0)
+                continue;
+
+            var top = 0;
+            callStack[top++] = root;
+            indices[root] = lowLinks[root] = index++;
+            cursors[root] = offsets[root];
+            componentStack[componentTop++] = root;
+            onStack[root] = true;
+            while (top > 0) {
+                var vertex = callStack[top - 1];
+                if (cursors[vertex] < offsets[vertex + 1]) {
+                    var next = targets[cursors[vertex]++];
+                    if (indices[next] < 0) {
+                        indices[next] = lowLinks[next] = index++;
+                        cursors[next] = offsets[next];
+                        componentStack[componentTop++] = next;
+                        onStack[next] = true;
+                        callStack[top++] = next;
+                    } else if (onStack[next]) {
+                        lowLinks[vertex] = Math.min(lowLinks[vertex], indices[next]);
+                    }
+                    continue;
+                }
+
+                top--;
+                if (top > 0)
+                    lowLinks[callStack[top - 1]] = Math.min(lowLinks[callStack[top - 1]], lowLinks[vertex]);
+                if (lowLinks[vertex] == indices[vertex]) {
+                    int member;
+                    do {
+                        member = componentStack[--componentTop];
+                        onStack[member] = false;
+                        components[member] = numberOfComponents;
+                    } while (member != vertex);
+                    numberOfComponents++;
+                }
+            }
+        }
+        return numberOfComponents;
+    }
+
+    /**
+     * The reusable state of the searches of one thread. It is static and keeps no arrays of the index,
+     * so a thread that queried an index does not keep the index alive through its thread local.
+     */
+    private static class Search {
+        private final int[] marks;
+        private final int[] stack;
+        private int mark;
+
+        Search(int numberOfComponents) {
+            marks = new int[numberOfComponents];
+            stack = new int[numberOfComponents];
+        }
+
+        boolean run(int[] offsets, int[] targets, int[] lows, int[] ranks, int source, int target) {
+            nextMark();
+            var top = 0;
+            stack[top++] = source;
+            marks[source] = mark;
+            while (top > 0) {
+                var component = stack[--top];
+                for (int arc = offsets[component]; arc < offsets[component + 1]; arc++) {
+                    var next = targets[arc];
+                    if (next == target)
+                        return true;
+                    if (marks[next] != mark && next > target && contains(lows, ranks, next, target)) {
+                        marks[next] = mark;
+                        stack[top++] = next;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return The components reachable from the component, itself included.
+         */
+        int[] collect(int[] offsets, int[] targets, int source) {
+            nextMark();
+            var top = 0;
+            var count = 0;
+            stack[top++] = source;
+            marks[source] = mark;
+            var reached = new int[marks.length];
+            while (top > 0) {
+                var component = stack[--top];
+                reached[count++] = component;
+                for (int arc = offsets[component]; arc < offsets[component + 1]; arc++) {
+                    var next = targets[arc];
+                    if (marks[next] != mark) {
+                        marks[next] = mark;
+                        stack[top++] = next;
+                    }
+                }
+            }
+            return Arrays.copyOf(reached, count);
+        }
+
+        private void nextMark() {
+            if (++mark == 0) {
+                Arrays.fill(marks, 0);
+                mark = 1;
+            }
+        }
+    }
+}
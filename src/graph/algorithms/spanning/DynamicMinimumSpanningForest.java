@@ -0,0 +1,231 @@
+package graph.algorithms.spanning;
+
+import graph.edges.Edge;
+import graph.edges.WeightedEdge;
+import graph.graph.ForestParts;
+import graph.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+/**
+ * The minimum spanning forest of a graph that is kept current while its edges change, instead of rerunning Kruskal.
+ * The edges must be added and deleted through this forest, which applies the change to the graph as well.
+ * <p>
+ * The forest is a {@link LinkCutTree} over the vertices, with every tree edge as a node of its own that holds the weight.
+ * Inserting an edge between two connected vertices swaps it with the heaviest edge on the tree path if it is lighter,
+ * in O(log n) amortized. Deleting a tree edge cuts it and links the lightest non-tree edge that reconnects the two parts.
+ * {@link ForestParts} walks the two parts at the same pace until the smaller one is complete, and only the non-tree
+ * edges of its vertices are candidates, kept by weight for every vertex. So a delete takes O(s + d log n), where s is the number
+ * of vertices of the smaller part and d the number of non-tree edges inside it that are lighter than the replacement.
+ * That is O(log n) for the edges near the leaves, but O(n + E log n) in the worst case of a balanced cut.
+ */
+public class DynamicMinimumSpanningForest {
+
+    private static final Comparator<WeightedEdge> ORDER = Comparator
+            .comparingInt(WeightedEdge::getWeight)
+            .thenComparingInt(edge -> Math.min(edge.getVertex1().getNumber(), edge.getVertex2().getNumber()))
+            .thenComparingInt(edge -> Math.max(edge.getVertex1().getNumber(), edge.getVertex2().getNumber()));
+
+    private final Graph graph;
+    private final int numberOfVertices;
+    private final LinkCutTree tree;
+    private final WeightedEdge[] edgesOfNodes;
+    private final int[] freeNodes;
+    private int numberOfFreeNodes;
+    private final HashMap<Long, Integer> treeNodes = new HashMap<>();
+    private final HashMap<Long, WeightedEdge> nonTreeEdges = new HashMap<>();
+    private final ArrayList<TreeSet<WeightedEdge>> incidentNonTreeEdges = new ArrayList<>();
+    private final ForestParts forest;
+    private long totalWeight;
+
+    private DynamicMinimumSpanningForest(Graph graph) {
+        this.graph = graph;
+        numberOfVertices = graph.getVertices().size();
+        var numberOfEdgeNodes = Math.max(numberOfVertices - 1, 0);
+        tree = new LinkCutTree(numberOfVertices + numberOfEdgeNodes);
+        edgesOfNodes = new WeightedEdge[numberOfVertices + numberOfEdgeNodes];
+        freeNodes = new int[numberOfEdgeNodes];
+        for (int i = 0; i < numberOfEdgeNodes; i++)
+            freeNodes[numberOfFreeNodes++] = tree.size() - 1 - i;
+        for (int v = 0; v < numberOfVertices; v++)
+            incidentNonTreeEdges.add(new TreeSet<>(ORDER));
+        forest = new ForestParts(numberOfVertices);
+    }
+
+    /**
+     * Builds the minimum spanning forest of the current weighted undirected edges of the graph.
+     */
+    public static DynamicMinimumSpanningForest of(Graph graph) {
+        var forest = new DynamicMinimumSpanningForest(graph);
+        graph.getWeightedUndirectedEdges()
+                .stream()
+                .map(edge -> (WeightedEdge) edge)
+                .sorted(ORDER)
+                .forEach(forest::insert);
+        return forest;
+    }
+
+    /**
+     * Adds the edge to the graph and updates the forest. An edge between vertices that are already adjacent is ignored.
+     */
+    public void addEdge(WeightedEdge edge) {
+        if (contains(edge))
+            return;
+        graph.addEdge(edge);
+        insert(edge);
+    }
+
+    /**
+     * Deletes the edge from the graph and updates the forest, replacing the edge if it was in the forest.
+     */
+    public void deleteEdge(WeightedEdge edge) {
+        if (!contains(edge))
+            return;
+        graph.deleteEdge(edge);
+        remove(key(edge));
+    }
+
+    public Graph getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return The sum of the weights of the forest edges, the same as {@code GraphHelper.getTotalEdgeWeight} of the Kruskal tree.
+     */
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getNumberOfTreeEdges() {
+        return treeNodes.size();
+    }
+
+    public ArrayList<WeightedEdge> getTreeEdges() {
+        var edges = new ArrayList<WeightedEdge>(treeNodes.size());
+        for (var node : treeNodes.values())
+            edges.add(edgesOfNodes[node]);
+        return edges;
+    }
+
+    public boolean isTreeEdge(Edge edge) {
+        return treeNodes.containsKey(key(edge));
+    }
+
+    /**
+     * @return True if the vertices are in the same tree of the forest.
+     */
+    public boolean connected(int vertex1, int vertex2) {
+        return tree.connected(vertex1, vertex2);
+    }
+
+    private boolean contains(Edge edge) {
+        var key = key(edge);
+        return treeNodes.containsKey(key) || nonTreeEdges.containsKey(key);
+    }
+
+    private void insert(WeightedEdge edge) {
+        var v1 = edge.getVertex1().getNumber();
+        var v2 = edge.getVertex2().getNumber();
+        if (v1 == v2) {
+            addNonTree(edge);
+            return;
+        }
+
+        if (tree.connected(v1, v2)) {
+            var heaviest = tree.pathMax(v1, v2);
+            if (tree.getValue(heaviest) <= edge.getWeight()) {
+                addNonTree(edge);
+                return;
+            }
+            var replaced = edgesOfNodes[heaviest];
+            cut(heaviest);
+            addNonTree(replaced);
+        }
+        link(edge);
+    }
+
+    private void remove(long key) {
+        var edge = nonTreeEdges.get(key);
+        if (edge != null) {
+            removeNonTree(edge);
+            return;
+        }
+
+        var node = treeNodes.get(key);
+        if (node == null)
+            return;
+        edge = edgesOfNodes[node];
+        cut(node);
+
+        var size = forest.searchSmallerTree(edge.getVertex1().getNumber(), edge.getVertex2().getNumber());
+        WeightedEdge replacement = null;
+        for (int i = 0; i < size; i++) {
+            var vertex = forest.getVertex(i);
+            for (var candidate : incidentNonTreeEdges.get(vertex)) {
+                if (replacement != null && ORDER.compare(candidate, replacement) >= 0)
+                    break;
+                if (!forest.isInFoundTree(otherEnd(candidate, vertex))) {
+                    replacement = candidate;
+                    break;
+                }
+            }
+        }
+
+        if (replacement != null) {
+            removeNonTree(replacement);
+            link(replacement);
+        }
+    }
+
+    private static int otherEnd(WeightedEdge edge, int vertex) {
+        var v1 = edge.getVertex1().getNumber();
+        return v1 == vertex ? edge.getVertex2().getNumber() : v1;
+    }
+
+    private void link(WeightedEdge edge) {
+        var node = freeNodes[--numberOfFreeNodes];
+        var v1 = edge.getVertex1().getNumber();
+        var v2 = edge.getVertex2().getNumber();
+        edgesOfNodes[node] = edge;
+        tree.setValue(node, edge.getWeight());
+        tree.link(v1, node);
+        tree.link(node, v2);
+        treeNodes.put(key(edge), node);
+        forest.link(v1, v2);
+        totalWeight += edge.getWeight();
+    }
+
+    private void cut(int node) {
+        var edge = edgesOfNodes[node];
+        var v1 = edge.getVertex1().getNumber();
+        var v2 = edge.getVertex2().getNumber();
+        tree.cut(v1, node);
+        tree.cut(node, v2);
+        forest.cut(v1, v2);
+        edgesOfNodes[node] = null;
+        freeNodes[numberOfFreeNodes++] = node;
+        treeNodes.remove(key(edge));
+        totalWeight -= edge.getWeight();
+    }
+
+    private void addNonTree(WeightedEdge edge) {
+        nonTreeEdges.put(key(edge), edge);
+        incidentNonTreeEdges.get(edge.getVertex1().getNumber()).add(edge);
+        incidentNonTreeEdges.get(edge.getVertex2().getNumber()).add(edge);
+    }
+
+    private void removeNonTree(WeightedEdge edge) {
+        nonTreeEdges.remove(key(edge));
+        incidentNonTreeEdges.get(edge.getVertex1().getNumber()).remove(edge);
+        incidentNonTreeEdges.get(edge.getVertex2().getNumber()).remove(edge);
+    }
+
+    private long key(Edge edge) {
+        var v1 = edge.getVertex1().getNumber();
+        var v2 = edge.getVertex2().getNumber();
+        return (long) Math.min(v1, v2) * numberOfVertices + Math.max(v1, v2);
+    }
+}
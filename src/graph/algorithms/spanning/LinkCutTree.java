@@ -0,0 +1,194 @@
+package graph.algorithms.spanning;
+
+import java.util.Arrays;
+
+/**
+ * A forest of rooted trees with O(log n) amortized link, cut, connectivity and path maximum queries,
+ * represented by splay trees over the preferred paths (Sleator and Tarjan).
+ * Every node has a value, and the path maximum is the node with the biggest value on the path between two nodes.
+ */
+public class LinkCutTree {
+
+    private static final int NONE = -1;
+
+    private final int[] left;
+    private final int[] right;
+    private final int[] parents;
+    private final boolean[] reversed;
+    private final int[] values;
+    private final int[] maxNodes;
+    private final int[] stack;
+
+    /**
+     * Creates the forest of single nodes, all with the value {@link Integer#MIN_VALUE}.
+     */
+    public LinkCutTree(int size) {
+        left = new int[size];
+        right = new int[size];
+        parents = new int[size];
+        reversed = new boolean[size];
+        values = new int[size];
+        maxNodes = new int[size];
+        stack = new int[size];
+        Arrays.fill(left, NONE);
+        Arrays.fill(right, NONE);
+        Arrays.fill(parents, NONE);
+        Arrays.fill(values, Integer.MIN_VALUE);
+        for (int i = 0; i < size; i++)
+            maxNodes[i] = i;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int getValue(int node) {
+        return values[node];
+    }
+
+    /**
+     * Changes the value of the node, which must not be linked to any other node.
+     */
+    public void setValue(int node, int value) {
+        values[node] = value;
+        maxNodes[node] = node;
+    }
+
+    public boolean connected(int a, int b) {
+        return a == b || findRoot(a) == findRoot(b);
+    }
+
+    /**
+     * Connects the trees of the two nodes with an edge between them. They must be in different trees.
+     */
+    public void link(int a, int b) {
+        makeRoot(a);
+        parents[a] = b;
+    }
+
+    /**
+     * Removes the edge between the two nodes, which must exist.
+     */
+    public void cut(int a, int b) {
+        makeRoot(a);
+        access(b);
+        splay(b);
+        left[b] = NONE;
+        parents[a] = NONE;
+        pull(b);
+    }
+
+    /**
+     * @return The node with the biggest value on the path between the two nodes, which must be connected.
+     */
+    public int pathMax(int a, int b) {
+        makeRoot(a);
+        access(b);
+        splay(b);
+        return maxNodes[b];
+    }
+
+    private int findRoot(int node) {
+        access(node);
+        splay(node);
+        while (true) {
+            push(node);
+            if (left[node] == NONE)
+                break;
+            node = left[node];
+        }
+        splay(node);
+        return node;
+    }
+
+    private void makeRoot(int node) {
+        access(node);
+        splay(node);
+        reversed[node] ^= true;
+    }
+
+    private void access(int node) {
+        int last = NONE;
+        for (int current = node; current != NONE; current = parents[current]) {
+            splay(current);
+            right[current] = last;
+            pull(current);
+            last = current;
+        }
+        splay(node);
+    }
+
+    private void splay(int node) {
+        int top = 0;
+        stack[top++] = node;
+        for (int current = node; !isRoot(current); current = parents[current])
+            stack[top++] = parents[current];
+        while (top > 0)
+            push(stack[--top]);
+
+        while (!isRoot(node)) {
+            int parent = parents[node];
+            if (!isRoot(parent)) {
+                int grandparent = parents[parent];
+                boolean zigZig = (left[grandparent] == parent) == (left[parent] == node);
+                rotate(zigZig ? parent : node);
+            }
+            rotate(node);
+        }
+    }
+
+    private void rotate(int node) {
+        int parent = parents[node];
+        int grandparent = parents[parent];
+        if (!isRoot(parent)) {
+            if (left[grandparent] == parent)
+                left[grandparent] = node;
+            else
+                right[grandparent] = node;
+        }
+        parents[node] = grandparent;
+
+        if (left[parent] == node) {
+            left[parent] = right[node];
+            if (right[node] != NONE)
+                parents[right[node]] = parent;
+            right[node] = parent;
+        } else {
+            right[parent] = left[node];
+            if (left[node] != NONE)
+                parents[left[node]] = parent;
+            left[node] = parent;
+        }
+        parents[parent] = node;
+        pull(parent);
+        pull(node);
+    }
+
+    private boolean isRoot(int node) {
+        int parent = parents[node];
+        return parent == NONE || left[parent] != node && right[parent] != node;
+    }
+
+    private void push(int node) {
+        if (!reversed[node])
+            return;
+
+        int child = left[node];
+        left[node] = right[node];
+        right[node] = child;
+        if (left[node] != NONE)
+            reversed[left[node]] ^= true;
+        if (right[node] != NONE)
+            reversed[right[node]] ^= true;
+        reversed[node] = false;
+    }
+
+    private void pull(int node) {
+        int max = node;
+        if (left[node] != NONE && values[maxNodes[left[node]]] > values[max])
+            max = maxNodes[left[node]];
+        if (right[node] != NONE && values[maxNodes[right[node]]] > values[max])
+            max = maxNodes[right[node]];
+        maxNodes[node] = max;
+    }
+}
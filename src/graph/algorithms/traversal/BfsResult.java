@@ -0,0 +1,81 @@
+package graph.algorithms.traversal;
+
+import java.util.Arrays;
+
+/**
+ * The breadth-first search tree from one source vertex. The arrays are indexed by vertex number
+ * and are shared, not copied.
+ */
+public class BfsResult {
+
+    private final int source;
+    private final int[] parents;
+    private final int[] parentEdges;
+    private final int[] levels;
+    private final int[] levelOffsets;
+    private final int[] verticesByLevel;
+
+    BfsResult(int source, int[] parents, int[] parentEdges, int[] levels, int numberOfLevels) {
+        this.source = source;
+        this.parents = parents;
+        this.parentEdges = parentEdges;
+        this.levels = levels;
+
+        levelOffsets = new int[numberOfLevels + 1];
+        for (int level : levels)
+            if (level >= 0)
+                levelOffsets[level + 1]++;
+        for (int level = 0; level < numberOfLevels; level++)
+            levelOffsets[level + 1] += levelOffsets[level];
+
+        verticesByLevel = new int[levelOffsets[numberOfLevels]];
+        int[] next = levelOffsets.clone();
+        for (int v = 0; v < levels.length; v++)
+            if (levels[v] >= 0)
+                verticesByLevel[next[levels[v]]++] = v;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * @return The parent of every vertex in the tree, -1 for the source and the unreached vertices.
+     */
+    public int[] getParents() {
+        return parents;
+    }
+
+    /**
+     * @return The id of the edge from the parent of every vertex, -1 if it has no parent.
+     */
+    public int[] getParentEdges() {
+        return parentEdges;
+    }
+
+    /**
+     * @return The distance of every vertex from the source in edges, -1 for the unreached vertices.
+     */
+    public int[] getLevels() {
+        return levels;
+    }
+
+    public int getNumberOfLevels() {
+        return levelOffsets.length - 1;
+    }
+
+    public int getNumberOfReached() {
+        return verticesByLevel.length;
+    }
+
+    public boolean isReached(int vertex) {
+        return levels[vertex] >= 0;
+    }
+
+    /**
+     * @return The vertices of the level in increasing order.
+     */
+    public int[] getLevel(int level) {
+        return Arrays.copyOfRange(verticesByLevel, levelOffsets[level], levelOffsets[level + 1]);
+    }
+}
@@ -0,0 +1,135 @@
+package graph.algorithms.traversal;
+
+import graph.graph.AdjacencyArrays;
+
+import java.util.Arrays;
+
+/**
+ * Iterative depth-first search on {@link AdjacencyArrays}. The stack holds only vertex numbers
+ * and every vertex keeps a cursor to its next arc, so the depth of the search is limited by memory
+ * rather than by the thread stack, and the events come in the same order as from the recursive search.
+ * <p>
+ * In an undirected adjacency the arc back to the parent is skipped once, so every edge is either a tree
+ * edge or a back edge, and a non-tree edge is seen from both ends as two back arcs.
+ */
+public class DfsEngine {
+
+    private static final EdgeType[] TYPES = EdgeType.values();
+
+    /**
+     * @return The search tree of the vertices reachable from the source.
+     */
+    public static DfsResult search(AdjacencyArrays adjacency, int source, DfsVisitor visitor) {
+        var search = new Search(adjacency, visitor);
+        search.run(source);
+        return search.result();
+    }
+
+    /**
+     * @return The search forest of the whole graph, started from every undiscovered vertex in increasing order.
+     */
+    public static DfsResult searchAll(AdjacencyArrays adjacency, DfsVisitor visitor) {
+        var search = new Search(adjacency, visitor);
+        for (int v = 0; v < adjacency.getNumberOfVertices(); v++)
+            if (search.discoveryTimes[v] < 0)
+                search.run(v);
+        return search.result();
+    }
+
+
+    private static class Search {
+        final DfsVisitor visitor;
+        final boolean directed;
+        final int[] offsets;
+        final int[] targets;
+        final int[] edgeIds;
+        final int[] discoveryTimes;
+        final int[] finishTimes;
+        final int[] parents;
+        final int[] parentEdges;
+        final byte[] arcTypes;
+        final int[] typeCounts = new int[TYPES.length];
+        final int[] cursors;
+        final int[] stack;
+        final boolean[] parentArcSkipped;
+        int time = 0;
+
+        Search(AdjacencyArrays adjacency, DfsVisitor visitor) {
+            int n = adjacency.getNumberOfVertices();
+            this.visitor = visitor;
+            directed = adjacency.isDirected();
+            offsets = adjacency.getOffsets();
+            targets = adjacency.getTargets();
+            edgeIds = adjacency.getEdgeIds();
+            discoveryTimes = new int[n];
+            finishTimes = new int[n];
+            parents = new int[n];
+            parentEdges = new int[n];
+            arcTypes = new byte[adjacency.getNumberOfArcs()];
+            cursors = new int[n];
+            stack = new int[n];
+            parentArcSkipped = directed ? null : new boolean[n];
+            Arrays.fill(discoveryTimes, -1);
+            Arrays.fill(finishTimes, -1);
+            Arrays.fill(parents, -1);
+            Arrays.fill(parentEdges, -1);
+            Arrays.fill(arcTypes, (byte) -1);
+        }
+
+        void run(int source) {
+            int top = 0;
+            stack[top++] = discover(source);
+
+            while (top > 0) {
+                int vertex = stack[top - 1];
+
+                if (cursors[vertex] == offsets[vertex + 1]) {
+                    finishTimes[vertex] = time++;
+                    top--;
+                    visitor.vertexFinished(vertex);
+                    continue;
+                }
+
+                int arc = cursors[vertex]++;
+                int target = targets[arc];
+                if (!directed && target == parents[vertex] && !parentArcSkipped[vertex]) {
+                    parentArcSkipped[vertex] = true;
+                    arcTypes[arc] = (byte) EdgeType.TREE.ordinal();
+                    continue;
+                }
+
+                visitor.arcExamined(vertex, target, edgeIds[arc]);
+                EdgeType type;
+                if (discoveryTimes[target] < 0)
+                    type = EdgeType.TREE;
+                else if (finishTimes[target] < 0 || !directed)
+                    type = EdgeType.BACK;
+                else if (discoveryTimes[vertex] < discoveryTimes[target])
+                    type = EdgeType.FORWARD;
+                else
+                    type = EdgeType.CROSS;
+
+                arcTypes[arc] = (byte) type.ordinal();
+                typeCounts[type.ordinal()]++;
+                visitor.arcClassified(vertex, target, edgeIds[arc], type);
+
+                if (type == EdgeType.TREE) {
+                    parents[target] = vertex;
+                    parentEdges[target] = edgeIds[arc];
+                    stack[top++] = discover(target);
+                }
+            }
+        }
+
+        private int discover(int vertex) {
+            discoveryTimes[vertex] = time++;
+            cursors[vertex] = offsets[vertex];
+            visitor.vertexDiscovered(vertex);
+            return vertex;
+        }
+
+        DfsResult result() {
+            return new DfsResult(discoveryTimes, finishTimes, parents, parentEdges, arcTypes, typeCounts);
+        }
+    }
+}
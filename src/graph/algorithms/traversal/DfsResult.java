@@ -0,0 +1,78 @@
+package graph.algorithms.traversal;
+
+/**
+ * The depth-first search forest with discovery and finish times and the type of every examined arc.
+ * The arrays are indexed by vertex number, or by arc index of the searched adjacency, and are shared, not copied.
+ */
+public class DfsResult {
+
+    private final int[] discoveryTimes;
+    private final int[] finishTimes;
+    private final int[] parents;
+    private final int[] parentEdges;
+    private final byte[] arcTypes;
+    private final int[] typeCounts;
+
+    DfsResult(int[] discoveryTimes, int[] finishTimes, int[] parents, int[] parentEdges, byte[] arcTypes, int[] typeCounts) {
+        this.discoveryTimes = discoveryTimes;
+        this.finishTimes = finishTimes;
+        this.parents = parents;
+        this.parentEdges = parentEdges;
+        this.arcTypes = arcTypes;
+        this.typeCounts = typeCounts;
+    }
+
+    /**
+     * @return The time every vertex was pushed on the stack, -1 for the unreached vertices.
+     * Discovery and finish times share one clock.
+     */
+    public int[] getDiscoveryTimes() {
+        return discoveryTimes;
+    }
+
+    /**
+     * @return The time every vertex was popped from the stack, -1 for the unreached vertices.
+     */
+    public int[] getFinishTimes() {
+        return finishTimes;
+    }
+
+    /**
+     * @return The parent of every vertex in the forest, -1 for the roots and the unreached vertices.
+     */
+    public int[] getParents() {
+        return parents;
+    }
+
+    /**
+     * @return The id of the edge from the parent of every vertex, -1 if it has no parent.
+     */
+    public int[] getParentEdges() {
+        return parentEdges;
+    }
+
+    public boolean isReached(int vertex) {
+        return discoveryTimes[vertex] >= 0;
+    }
+
+    /**
+     * @return The type of the arc, or null if the search has not examined it.
+     */
+    public EdgeType getArcType(int arc) {
+        return arcTypes[arc] < 0 ? null : EdgeType.values()[arcTypes[arc]];
+    }
+
+    /**
+     * @return How many arcs of the type were examined.
+     */
+    public int getCount(EdgeType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * @return Whether a back arc was found, i.e. whether the reached part of the graph has a cycle.
+     */
+    public boolean hasCycle() {
+        return getCount(EdgeType.BACK) > 0;
+    }
+}
@@ -0,0 +1,28 @@
+package graph.algorithms.traversal;
+
+/**
+ * Receives the events of a depth-first search in the order the recursive search would produce them.
+ * All the methods do nothing by default.
+ */
+public interface DfsVisitor {
+
+    DfsVisitor NONE = new DfsVisitor() {};
+
+    default void vertexDiscovered(int vertex) {
+    }
+
+    /**
+     * An arc is about to be classified.
+     */
+    default void arcExamined(int from, int to, int edgeId) {
+    }
+
+    /**
+     * For a tree arc it is called before the target vertex is discovered.
+     */
+    default void arcClassified(int from, int to, int edgeId, EdgeType type) {
+    }
+
+    default void vertexFinished(int vertex) {
+    }
+}
@@ -0,0 +1,15 @@
+package graph.algorithms.traversal;
+
+/**
+ * The classification of an arc by a depth-first search.
+ */
+public enum EdgeType {
+    /** Leads to a vertex discovered through it. */
+    TREE,
+    /** Leads to a vertex that is still on the stack, including loops. */
+    BACK,
+    /** Leads to a finished descendant. */
+    FORWARD,
+    /** Leads to a finished vertex in another subtree or an earlier tree. */
+    CROSS
+}
@@ -0,0 +1,217 @@
+package graph.algorithms.traversal;
+
+import graph.graph.AdjacencyArrays;
+import graph.graph.Graph;
+import graph.math.BitsetHelper;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Level-synchronous breadth-first search that runs every level in parallel on a {@link ForkJoinPool}.
+ * The frontier, the next frontier and the visited vertices are bitsets.
+ * <p>
+ * Every level is expanded either top-down, from the frontier along the outgoing arcs, or bottom-up,
+ * from the unvisited vertices along the incoming arcs until one of them is in the frontier (Beamer's
+ * direction-optimizing heuristic). Bottom-up pays off when the frontier has more outgoing arcs than
+ * 1/{@value ALPHA} of the unexplored ones, and top-down again when it has fewer than 1/{@value BETA} of the vertices.
+ * <p>
+ * The levels do not depend on the scheduling. The parent of a vertex is some vertex of the previous level,
+ * which may differ between parallel runs.
+ */
+public class ParallelBfsEngine {
+
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int WORDS_PER_TASK = 16;
+    private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+    /**
+     * @return The search along the directed edges of the graph.
+     */
+    public static BfsResult search(Graph graph, int source) {
+        return search(AdjacencyArrays.directed(graph), source);
+    }
+
+    public static BfsResult search(AdjacencyArrays adjacency, int source) {
+        return search(adjacency, adjacency.reversed(), source);
+    }
+
+    /**
+     * @param reversed The same arcs turned around, for the bottom-up levels.
+     */
+    public static BfsResult search(AdjacencyArrays adjacency, AdjacencyArrays reversed, int source) {
+        int n = adjacency.getNumberOfVertices();
+        var state = new SearchState(adjacency, reversed, n);
+        int[] offsets = adjacency.getOffsets();
+
+        BitsetHelper.set(state.visited, source);
+        BitsetHelper.set(state.frontier, source);
+        state.levels[source] = 0;
+
+        long frontierSize = 1;
+        long frontierArcs = offsets[source + 1] - offsets[source];
+        long unexploredArcs = adjacency.getNumberOfArcs() - frontierArcs;
+        boolean bottomUp = false;
+        int level = 0;
+
+        while (frontierSize > 0) {
+            if (!bottomUp && frontierArcs > unexploredArcs / ALPHA)
+                bottomUp = true;
+            else if (bottomUp && frontierSize < n / BETA)
+                bottomUp = false;
+
+            Arrays.fill(state.next, 0);
+            state.nextSize.reset();
+            state.nextArcs.reset();
+            POOL.invoke(new LevelTask(state, level + 1, bottomUp, 0, state.frontier.length));
+
+            long[] swap = state.frontier;
+            state.frontier = state.next;
+            state.next = swap;
+            frontierSize = state.nextSize.sum();
+            frontierArcs = state.nextArcs.sum();
+            unexploredArcs -= frontierArcs;
+            level++;
+        }
+
+        return new BfsResult(source, state.parents, state.parentEdges, state.levels, level);
+    }
+
+
+    private static class SearchState {
+        final AdjacencyArrays adjacency;
+        final AdjacencyArrays reversed;
+        final int numberOfVertices;
+        final int[] parents;
+        final int[] parentEdges;
+        final int[] levels;
+        final long[] visited;
+        long[] frontier;
+        long[] next;
+        final LongAdder nextSize = new LongAdder();
+        final LongAdder nextArcs = new LongAdder();
+
+        SearchState(AdjacencyArrays adjacency, AdjacencyArrays reversed, int numberOfVertices) {
+            this.adjacency = adjacency;
+            this.reversed = reversed;
+            this.numberOfVertices = numberOfVertices;
+            parents = new int[numberOfVertices];
+            parentEdges = new int[numberOfVertices];
+            levels = new int[numberOfVertices];
+            Arrays.fill(parents, -1);
+            Arrays.fill(parentEdges, -1);
+            Arrays.fill(levels, -1);
+            visited = BitsetHelper.newBitset(numberOfVertices);
+            frontier = BitsetHelper.newBitset(numberOfVertices);
+            next = BitsetHelper.newBitset(numberOfVertices);
+        }
+    }
+
+    /**
+     * Expands the part of a level whose vertices are in the given range of bitset words.
+     * Top-down the range is of the frontier, bottom-up it is of the unvisited vertices.
+     */
+    private static class LevelTask extends RecursiveAction {
+        private final SearchState state;
+        private final int level;
+        private final boolean bottomUp;
+        private final int fromWord;
+        private final int toWord;
+
+        LevelTask(SearchState state, int level, boolean bottomUp, int fromWord, int toWord) {
+            this.state = state;
+            this.level = level;
+            this.bottomUp = bottomUp;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWord - fromWord > WORDS_PER_TASK) {
+                int middle = (fromWord + toWord) >>> 1;
+                invokeAll(new LevelTask(state, level, bottomUp, fromWord, middle),
+                        new LevelTask(state, level, bottomUp, middle, toWord));
+                return;
+            }
+
+            if (bottomUp)
+                bottomUp();
+            else
+                topDown();
+        }
+
+        private void topDown() {
+            int[] offsets = state.adjacency.getOffsets();
+            int[] targets = state.adjacency.getTargets();
+            int[] edgeIds = state.adjacency.getEdgeIds();
+            long added = 0;
+            long addedArcs = 0;
+
+            for (int word = fromWord; word < toWord; word++) {
+                for (long bits = state.frontier[word]; bits != 0; bits &= bits - 1) {
+                    int vertex = (word << 6) + Long.numberOfTrailingZeros(bits);
+
+                    for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                        int target = targets[arc];
+                        if (BitsetHelper.get(state.visited, target) || !BitsetHelper.setAtomically(state.visited, target))
+                            continue;
+
+                        state.parents[target] = vertex;
+                        state.parentEdges[target] = edgeIds[arc];
+                        state.levels[target] = level;
+                        BitsetHelper.setAtomically(state.next, target);
+                        added++;
+                        addedArcs += offsets[target + 1] - offsets[target];
+                    }
+                }
+            }
+
+            state.nextSize.add(added);
+            state.nextArcs.add(addedArcs);
+        }
+
+        /**
+         * Only this task writes the words of its range, so no atomic updates are needed.
+         */
+        private void bottomUp() {
+            int[] offsets = state.adjacency.getOffsets();
+            int[] reversedOffsets = state.reversed.getOffsets();
+            int[] sources = state.reversed.getTargets();
+            int[] edgeIds = state.reversed.getEdgeIds();
+            long added = 0;
+            long addedArcs = 0;
+
+            for (int word = fromWord; word < toWord; word++) {
+                long unvisited = ~state.visited[word];
+                if (word == state.visited.length - 1 && (state.numberOfVertices & 63) != 0)
+                    unvisited &= (1L << state.numberOfVertices) - 1;
+
+                for (long bits = unvisited; bits != 0; bits &= bits - 1) {
+                    int vertex = (word << 6) + Long.numberOfTrailingZeros(bits);
+
+                    for (int arc = reversedOffsets[vertex]; arc < reversedOffsets[vertex + 1]; arc++) {
+                        int source = sources[arc];
+                        if (!BitsetHelper.get(state.frontier, source))
+                            continue;
+
+                        state.parents[vertex] = source;
+                        state.parentEdges[vertex] = edgeIds[arc];
+                        state.levels[vertex] = level;
+                        BitsetHelper.set(state.visited, vertex);
+                        BitsetHelper.set(state.next, vertex);
+                        added++;
+                        addedArcs += offsets[vertex + 1] - offsets[vertex];
+                        break;
+                    }
+                }
+            }
+
+            state.nextSize.add(added);
+            state.nextArcs.add(addedArcs);
+        }
+    }
+}
@@ -4,22 +4,15 @@ import graph.edges.states.ArcEdge;
 import graph.edges.states.EdgeState;
 import graph.edges.states.LineEdge;
 import graph.edges.states.LoopEdge;
-import graph.math.MathHelper;
-import graph.math.Point;
 import graph.vertices.Vertex;
 
-import java.awt.*;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 
 public class DirectedEdge extends Edge {
-    private HashSet<Edge> drawnEdges;
-    private boolean wasMirrored = false;
 
-    public DirectedEdge(Vertex vertex1, Vertex vertex2, List<Vertex> vertices, HashSet<Edge> drawnEdges) {
+    public DirectedEdge(Vertex vertex1, Vertex vertex2, List<Vertex> vertices) {
         super(vertex1, vertex2, vertices);
-        this.drawnEdges = drawnEdges;
     }
 
     @Override
@@ -36,28 +29,27 @@ public class DirectedEdge extends Edge {
     }
 
     @Override
-    public void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        state.drawArrow((Graphics2D) g);
-    }
-
-    @Override
-    protected void initState() {
-        DirectedEdge complementaryEdge = new DirectedEdge(vertex2, vertex1, vertices, drawnEdges);
-
+    public EdgeState createState(boolean complementDrawn) {
         if (vertex1.equals(vertex2))
-            state = new LoopEdge(vertex1, vertex2);
-        else if (drawnEdges.contains(complementaryEdge)) {
-            state = new ArcEdge(vertex1, vertex2);
-            if (!wasMirrored) {
-                ((ArcEdge) state).mirror();
-                wasMirrored = true;
-            }
+            return new LoopEdge(vertex1, vertex2, numberOfVertices);
+        else if (complementDrawn) {
+            ArcEdge state = new ArcEdge(vertex1, vertex2);
+            state.mirror();
+            return state;
         }
         else if (lineIntersectsOtherVertices())
-            state = new ArcEdge(vertex1, vertex2);
+            return new ArcEdge(vertex1, vertex2);
         else
-            state = new LineEdge(vertex1, vertex2);
-        drawnEdges.add(this);
+            return new LineEdge(vertex1, vertex2);
+    }
+
+    @Override
+    public Edge reversed() {
+        return new DirectedEdge(vertex2, vertex1, vertices);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
     }
 }
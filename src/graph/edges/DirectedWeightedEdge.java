@@ -1,25 +1,29 @@
 package graph.edges;
 
+import graph.edges.states.EdgeState;
 import graph.vertices.Vertex;
 
-import java.awt.*;
-import java.util.HashSet;
 import java.util.List;
 
 public class DirectedWeightedEdge extends DirectedEdge implements Comparable<DirectedWeightedEdge> {
 
     private int weight;
-    private Color textColor = Color.BLACK;
 
-    public DirectedWeightedEdge(Vertex vertex1, Vertex vertex2, List<Vertex> vertices, HashSet<Edge> drawnEdges, int weight) {
-        super(vertex1, vertex2, vertices, drawnEdges);
+    public DirectedWeightedEdge(Vertex vertex1, Vertex vertex2, List<Vertex> vertices, int weight) {
+        super(vertex1, vertex2, vertices);
         this.weight = weight;
     }
 
     @Override
-    public void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        state.drawWeight(g);
+    public boolean isWeighted() {
+        return true;
+    }
+
+    @Override
+    public EdgeState createState(boolean complementDrawn) {
+        EdgeState state = super.createState(complementDrawn);
+        state.setWeight(weight);
+        return state;
     }
 
     @Override
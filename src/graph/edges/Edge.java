@@ -7,20 +7,17 @@ import graph.edges.states.LoopEdge;
 import graph.math.MathHelper;
 import graph.vertices.Vertex;
 
-import javax.swing.*;
-import java.awt.*;
 import java.util.Objects;
 import java.util.List;
 
-public class Edge extends JComponent {
+public class Edge {
 
     protected Vertex vertex1;
     protected Vertex vertex2;
 
     protected List<Vertex> vertices;
-    protected Color color = Color.BLACK;
+    protected int id = -1;
     protected int numberOfVertices;
-    protected EdgeState state;
 
 
     public Edge(Vertex vertex1, Vertex vertex2, List<Vertex> vertices) {
@@ -28,14 +25,30 @@ public class Edge extends JComponent {
         this.vertex2 = vertex2;
         this.vertices = vertices;
         numberOfVertices = vertices.size();
-//        initState();
     }
 
-    @Override
-    public void paintComponent(Graphics g) {
-        initState();
-        g.setColor(color);
-        state.paintComponent(g);
+    /**
+     * @param complementDrawn Whether the reversed edge is painted before this one.
+     */
+    public EdgeState createState(boolean complementDrawn) {
+        if (vertex1.equals(vertex2))
+            return new LoopEdge(vertex1, vertex2, numberOfVertices);
+        else if (lineIntersectsOtherVertices())
+            return new ArcEdge(vertex1, vertex2);
+        else
+            return new LineEdge(vertex1, vertex2);
+    }
+
+    public Edge reversed() {
+        return new Edge(vertex2, vertex1, vertices);
+    }
+
+    public boolean isDirected() {
+        return false;
+    }
+
+    public boolean isWeighted() {
+        return false;
     }
 
     public Vertex getVertex1() {
@@ -50,8 +63,12 @@ public class Edge extends JComponent {
         return vertices;
     }
 
-    public void setColor(Color color) {
-        this.color = color;
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
     }
 
     @Override
@@ -69,15 +86,6 @@ public class Edge extends JComponent {
     }
 
 
-    protected void initState() {
-        if (vertex1.equals(vertex2))
-            state = new LoopEdge(vertex1, vertex2);
-        else if (lineIntersectsOtherVertices())
-            state = new ArcEdge(vertex1, vertex2);
-        else
-            state = new LineEdge(vertex1, vertex2);
-    }
-
     protected boolean lineIntersectsOtherVertices() {
         for (Vertex vertex : vertices) {
             if (vertex.equals(vertex1) || vertex.equals(vertex2))
@@ -0,0 +1,32 @@
+package graph.edges;
+
+import graph.edges.states.EdgeState;
+
+/**
+ * Immutable buffer with precomputed states of the edges in their paint order.
+ * Produced by {@link EdgeGeometryPipeline} and handed to the event dispatch thread as a whole.
+ */
+public final class EdgeGeometry {
+
+    public static final EdgeGeometry EMPTY = new EdgeGeometry(new Edge[0], new EdgeState[0]);
+
+    private final Edge[] edges;
+    private final EdgeState[] states;
+
+    EdgeGeometry(Edge[] edges, EdgeState[] states) {
+        this.edges = edges;
+        this.states = states;
+    }
+
+    public int size() {
+        return edges.length;
+    }
+
+    public Edge getEdge(int index) {
+        return edges[index];
+    }
+
+    public EdgeState getState(int index) {
+        return states[index];
+    }
+}
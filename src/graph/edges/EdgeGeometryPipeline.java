@@ -0,0 +1,104 @@
+package graph.edges;
+
+import graph.edges.states.ArcEdge;
+import graph.edges.states.EdgeState;
+import graph.edges.states.LineEdge;
+import graph.edges.states.LoopEdge;
+import graph.jfr.EdgeGeometryEvent;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the geometry of the edges away from the event dispatch thread.
+ * The edge set is split across a {@link ForkJoinPool}, so the painting code only receives
+ * a finished {@link EdgeGeometry}.
+ */
+public class EdgeGeometryPipeline {
+
+    private static final int THRESHOLD = 64;
+    private static final ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+    /**
+     * @param edges The edges in the order they are going to be painted.
+     *              They are copied on the calling thread, so the collection may change afterwards.
+     */
+    public static CompletableFuture<EdgeGeometry> compute(Collection<Edge> edges) {
+        Edge[] paintOrder = edges.toArray(new Edge[0]);
+        return CompletableFuture.supplyAsync(() -> computeNow(paintOrder), POOL);
+    }
+
+    public static EdgeGeometry computeNow(Edge[] edges) {
+        var event = new EdgeGeometryEvent();
+        event.begin();
+
+        boolean[] complementDrawn = markComplementaryEdges(edges);
+        EdgeState[] states = new EdgeState[edges.length];
+
+        POOL.invoke(new GeometryTask(edges, complementDrawn, states, 0, edges.length));
+
+        if (event.shouldCommit()) {
+            event.numberOfEdges = states.length;
+            for (var state : states) {
+                if (state instanceof ArcEdge)
+                    event.arcs++;
+                else if (state instanceof LoopEdge)
+                    event.loops++;
+                else if (state instanceof LineEdge)
+                    event.lines++;
+            }
+            event.commit();
+        }
+
+        return new EdgeGeometry(edges, states);
+    }
+
+    /**
+     * The only order-dependent part of the geometry: an edge whose reversed edge
+     * is painted before it has to be drawn as a mirrored arc.
+     */
+    private static boolean[] markComplementaryEdges(Edge[] edges) {
+        boolean[] complementDrawn = new boolean[edges.length];
+        HashSet<Edge> drawnEdges = new HashSet<>();
+
+        for (int i = 0; i < edges.length; i++) {
+            complementDrawn[i] = drawnEdges.contains(edges[i].reversed());
+            drawnEdges.add(edges[i]);
+        }
+
+        return complementDrawn;
+    }
+
+
+    private static class GeometryTask extends RecursiveAction {
+        private final Edge[] edges;
+        private final boolean[] complementDrawn;
+        private final EdgeState[] states;
+        private final int from;
+        private final int to;
+
+        GeometryTask(Edge[] edges, boolean[] complementDrawn, EdgeState[] states, int from, int to) {
+            this.edges = edges;
+            this.complementDrawn = complementDrawn;
+            this.states = states;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++)
+                    states[i] = edges[i].createState(complementDrawn[i]);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new GeometryTask(edges, complementDrawn, states, from, middle),
+                    new GeometryTask(edges, complementDrawn, states, middle, to));
+        }
+    }
+}
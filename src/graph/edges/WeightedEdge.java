@@ -1,9 +1,8 @@
 package graph.edges;
 
-import graph.math.Point;
+import graph.edges.states.EdgeState;
 import graph.vertices.Vertex;
 
-import java.awt.*;
 import java.util.List;
 
 public class WeightedEdge extends Edge implements Comparable<WeightedEdge> {
@@ -21,9 +20,8 @@ public class WeightedEdge extends Edge implements Comparable<WeightedEdge> {
     }
 
     @Override
-    public void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        state.drawWeight(g);
+    public boolean isWeighted() {
+        return true;
     }
 
     @Override
@@ -36,8 +34,9 @@ public class WeightedEdge extends Edge implements Comparable<WeightedEdge> {
     }
 
     @Override
-    protected void initState() {
-        super.initState();
+    public EdgeState createState(boolean complementDrawn) {
+        EdgeState state = super.createState(complementDrawn);
         state.setWeight(weight);
+        return state;
     }
 }
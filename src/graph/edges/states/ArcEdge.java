@@ -4,9 +4,6 @@ import graph.math.MathHelper;
 import graph.math.Point;
 import graph.vertices.Vertex;
 
-import java.awt.*;
-import java.awt.geom.Arc2D;
-import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,22 +25,16 @@ public class ArcEdge extends EdgeState {
         initWeightPoint();
     }
 
-    @Override
-    public void paintComponent(Graphics g) {
-        drawArc((Graphics2D) g);
+    public Point getTangentPoint() {
+        return tangentPoint;
+    }
+
+    public Point getArcCenter() {
+        return arcCenter;
     }
 
-    private void drawArc(Graphics2D g) {
-        Point2D vertex1Center = new Point2D.Double(vertex1.x, vertex1.y);
-        Point2D tangentPoint = new Point2D.Double(this.tangentPoint.x(), this.tangentPoint.y());
-        Point2D vertex2Center = new Point2D.Double(vertex2.x, vertex2.y);
-
-        Arc2D arc = new Arc2D.Double();
-        arc.setArcByTangent(vertex1Center,
-                tangentPoint,
-                vertex2Center,
-                arcRadius);
-        g.draw(arc);
+    public double getArcRadius() {
+        return arcRadius;
     }
 
     public void mirror() {
@@ -51,6 +42,7 @@ public class ArcEdge extends EdgeState {
         endPoint = mirrorPoint(endPoint);
         tangentPoint = mirrorPoint(tangentPoint);
         arcCenter = mirrorPoint(arcCenter);
+        initArrowPoints();
     }
 
     @Override
@@ -64,6 +56,8 @@ public class ArcEdge extends EdgeState {
 
     @Override
     protected void initArrowEndSlope() {
+        if (endPoint == null)
+            return;
         arrowEndSlope = ((double) -(endPoint.x() - arcCenter.x())) / (endPoint.y() - arcCenter.y());
     }
 
@@ -74,6 +68,8 @@ public class ArcEdge extends EdgeState {
         rotate it by 10 degrees в сторону второй вершины
          */
 
+        if (startPoint == null || endPoint == null)
+            return;
         final double angle = startPoint.x() < endPoint.x() ? Math.PI/18 : -Math.PI/18;
         weightPoint = MathHelper.rotatePoint(arcCenter, startPoint, angle);
 
@@ -4,13 +4,13 @@ import graph.math.MathHelper;
 import graph.math.Point;
 import graph.vertices.Vertex;
 
-import javax.swing.*;
-import java.awt.*;
-
-public abstract class EdgeState extends JComponent {
+/**
+ * The geometry of an edge. It is computed once in the constructor, the renderer only reads it.
+ */
+public abstract class EdgeState {
 
     protected static final double ARROW_TANGENT = Math.PI/12; // tgx ~ x, x -> 0
-    private static final float FONT_SIZE = 12.0f;
+    private static final int ARROW_LENGTH = 20;
 
     protected Vertex vertex1;
     protected Vertex vertex2;
@@ -18,6 +18,8 @@ public abstract class EdgeState extends JComponent {
     protected Point startPoint;
     protected Point endPoint;
     protected Point weightPoint;
+    protected Point arrowPoint1;
+    protected Point arrowPoint2;
 
     protected int weight;
     protected double arrowEndSlope;
@@ -35,17 +37,39 @@ public abstract class EdgeState extends JComponent {
         this.weight = weight;
     }
 
-    @Override
-    public abstract void paintComponent(Graphics g);
-    public void drawArrow(Graphics2D g) {
-        drawArrowPart(g, endPoint, arrowPart1Slope);
-        drawArrowPart(g, endPoint, arrowPart2Slope);
+    public Vertex getVertex1() {
+        return vertex1;
+    }
+
+    public Vertex getVertex2() {
+        return vertex2;
+    }
+
+    public Point getStartPoint() {
+        return startPoint;
+    }
+
+    public Point getEndPoint() {
+        return endPoint;
+    }
+
+    public Point getWeightPoint() {
+        return weightPoint;
     }
-    public void drawWeight(Graphics g) {
-        Font currentFont = g.getFont();
-        Font newFont = currentFont.deriveFont(FONT_SIZE);
-        g.setFont(newFont);
-        g.drawString(String.valueOf(weight), weightPoint.x(), weightPoint.y());
+
+    /**
+     * @return The ends of the two arrow lines, which start at the end point.
+     */
+    public Point getArrowPoint1() {
+        return arrowPoint1;
+    }
+
+    public Point getArrowPoint2() {
+        return arrowPoint2;
+    }
+
+    public int getWeight() {
+        return weight;
     }
 
     public void setWeight(int weight) {
@@ -56,6 +80,7 @@ public abstract class EdgeState extends JComponent {
     protected void initArrowSlopes() {
         initArrowEndSlope();
         initArrowPartsSlope();
+        initArrowPoints();
     }
     protected abstract void initArrowEndSlope();
     protected void initArrowPartsSlope() {
@@ -64,20 +89,26 @@ public abstract class EdgeState extends JComponent {
     }
     protected abstract void initWeightPoint();
 
-    protected void drawArrowPart(Graphics2D g, graph.math.Point p, double arrowPartSlope) {
+    protected void initArrowPoints() {
+        arrowPoint1 = calculateArrowPartPoint(endPoint, arrowPart1Slope);
+        arrowPoint2 = calculateArrowPartPoint(endPoint, arrowPart2Slope);
+    }
+
+    private Point calculateArrowPartPoint(Point p, double arrowPartSlope) {
+        if (p == null)
+            return null;
+
         double lineAngle = Math.atan(arrowPartSlope);
         Point arrowPoint = calculateArrowPoint(p, lineAngle);
         if (MathHelper.pointInsideVertex(arrowPoint, vertex2))
             arrowPoint = calculateArrowPoint(p, lineAngle + Math.PI);
 
-        g.drawLine(p.x(), p.y(), arrowPoint.x(), arrowPoint.y());
+        return arrowPoint;
     }
 
     private Point calculateArrowPoint(Point arcVertex, double lineAngle) {
-        final int arrowLength = 20;
-
-        int deltaX = (int) Math.round(arrowLength*Math.cos(lineAngle));
-        int deltaY = (int) Math.round(arrowLength*Math.sin(lineAngle));
+        int deltaX = (int) Math.round(ARROW_LENGTH*Math.cos(lineAngle));
+        int deltaY = (int) Math.round(ARROW_LENGTH*Math.sin(lineAngle));
 
         return new Point(arcVertex.x() + deltaX, arcVertex.y() + deltaY);
     }
@@ -4,8 +4,6 @@ import graph.math.MathHelper;
 import graph.math.Point;
 import graph.vertices.Vertex;
 
-import java.awt.*;
-
 public class LineEdge extends EdgeState {
 
     public LineEdge(Vertex vertex1, Vertex vertex2) {
@@ -18,16 +16,6 @@ public class LineEdge extends EdgeState {
     }
 
 
-    @Override
-    public void paintComponent(Graphics g) {
-        drawLine(g);
-    }
-
-    private void drawLine(Graphics g) {
-        g.drawLine(startPoint.x(), startPoint.y(),
-                endPoint.x(), endPoint.y());
-    }
-
     @Override
     protected void initEdgePoints() {
         double lineAngle = MathHelper.calculateLineAngle(vertex1.center, vertex2.center);
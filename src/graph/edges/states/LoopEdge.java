@@ -4,20 +4,18 @@ import graph.math.MathHelper;
 import graph.math.Point;
 import graph.vertices.Vertex;
 
-import java.awt.*;
-
 public class LoopEdge extends EdgeState {
 
     private static final int LOOP_SIZE_COEFFICIENT = 2;
 
-    // костыль
-    private final int NUMBER_OF_VERTICES = 12;
+    private final int numberOfVertices;
 
     private Point loopCenter;
     private int loopRadius;
 
-    public LoopEdge(Vertex vertex1, Vertex vertex2) {
+    public LoopEdge(Vertex vertex1, Vertex vertex2, int numberOfVertices) {
         super(vertex1, vertex2);
+        this.numberOfVertices = numberOfVertices;
         initEdgePoints();
         initLoopCenter();
         initLoopRadius();
@@ -27,18 +25,17 @@ public class LoopEdge extends EdgeState {
         initWeightPoint();
     }
 
-    @Override
-    public void paintComponent(Graphics g) {
-        drawLoop(g);
+    public Point getLoopCenter() {
+        return loopCenter;
     }
 
-    private void drawLoop(Graphics g)  {
-        g.drawOval(loopCenter.x() - loopRadius, loopCenter.y() - loopRadius, 2*loopRadius, 2*loopRadius);
+    public int getLoopRadius() {
+        return loopRadius;
     }
 
     @Override
     protected void initEdgePoints() {
-        double angle = (vertex1.getNumber() - 1) * 2 * Math.PI / NUMBER_OF_VERTICES;
+        double angle = (vertex1.getNumber() - 1) * 2 * Math.PI / numberOfVertices;
 
         startPoint = MathHelper.shiftPoint(vertex1, angle + Math.PI/4);
         endPoint = MathHelper.shiftPoint(vertex1, angle - Math.PI/4);
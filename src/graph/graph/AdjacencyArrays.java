@@ -0,0 +1,273 @@
+package graph.graph;
+
+import graph.edges.Edge;
+import graph.edges.WeightedEdge;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A read-only adjacency list of a graph in primitive arrays (compressed sparse rows).
+ * The arcs leaving vertex v are at indexes from {@code getOffsets()[v]} to {@code getOffsets()[v + 1]}
+ * of the target, weight and edge id arrays, sorted by target. An undirected edge is stored as two arcs.
+ * The arrays are shared, not copied, so they must not be modified.
+ */
+public class AdjacencyArrays {
+
+    private final int numberOfVertices;
+    private final boolean directed;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] edgeIds;
+    private final int minWeight;
+
+    private AdjacencyArrays(int numberOfVertices, boolean directed, int[] offsets, int[] targets, int[] weights, int[] edgeIds) {
+        this.numberOfVertices = numberOfVertices;
+        this.directed = directed;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.edgeIds = edgeIds;
+
+        int min = Integer.MAX_VALUE;
+        for (int weight : weights)
+            min = Math.min(min, weight);
+        minWeight = min;
+    }
+
+    /**
+     * @return The arcs of the weighted undirected edges of the graph, two per edge.
+     */
+    public static AdjacencyArrays weightedUndirected(Graph graph) {
+        return of(graph.getVertices().size(), graph.getWeightedUndirectedEdges(), false);
+    }
+
+    /**
+     * @return The arcs of the directed edges of the graph, all of weight 1.
+     */
+    public static AdjacencyArrays directed(Graph graph) {
+        return of(graph.getVertices().size(), graph.getDirectedEdges(), true);
+    }
+
+    /**
+     * @param weightsMatrix There is an arc from i to j when the weight in row i and column j is not 0.
+     *                      The diagonal is left out. The arcs have no edge ids, they are all -1.
+     */
+    public static AdjacencyArrays ofWeightsMatrix(int[][] weightsMatrix) {
+        return ofMatrix(weightsMatrix, false);
+    }
+
+    /**
+     * @param graphMatrix There is an arc from i to j when the entry in row i and column j is 1, as in the matrices
+     *                    of {@link Graph} and {@link GraphHelper}. The diagonal is left out. The arcs have weight 1
+     *                    and no edge ids.
+     */
+    public static AdjacencyArrays ofAdjacencyMatrix(int[][] graphMatrix) {
+        return ofMatrix(graphMatrix, true);
+    }
+
+    private static AdjacencyArrays ofMatrix(int[][] matrix, boolean onlyOnes) {
+        int n = matrix.length;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                if (i != j && isArc(matrix[i][j], onlyOnes))
+                    offsets[i + 1]++;
+        for (int v = 0; v < n; v++)
+            offsets[v + 1] += offsets[v];
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[targets.length];
+        int[] edgeIds = new int[targets.length];
+        Arrays.fill(edgeIds, -1);
+        for (int i = 0, arc = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && isArc(matrix[i][j], onlyOnes)) {
+                    targets[arc] = j;
+                    weights[arc++] = matrix[i][j];
+                }
+            }
+        }
+
+        return new AdjacencyArrays(n, true, offsets, targets, weights, edgeIds);
+    }
+
+    private static boolean isArc(int entry, boolean onlyOnes) {
+        return onlyOnes ? entry == 1 : entry != 0;
+    }
+
+    /**
+     * The arcs of every vertex are sorted by target, the same order as a row of the adjacency matrix.
+     * A loop is stored as one arc.
+     * @param edges The weight of an edge that is not a {@link WeightedEdge} is 1.
+     * @param directed Whether an edge only goes from its first vertex to the second one.
+     */
+    public static AdjacencyArrays of(int numberOfVertices, Collection<Edge> edges, boolean directed) {
+        int[] offsets = new int[numberOfVertices + 1];
+        for (var edge : edges) {
+            int v1 = edge.getVertex1().getNumber();
+            int v2 = edge.getVertex2().getNumber();
+            offsets[v1 + 1]++;
+            if (!directed && v1 != v2)
+                offsets[v2 + 1]++;
+        }
+        for (int v = 0; v < numberOfVertices; v++)
+            offsets[v + 1] += offsets[v];
+
+        int[] next = new int[numberOfVertices];
+        System.arraycopy(offsets, 0, next, 0, numberOfVertices);
+        int[] targets = new int[offsets[numberOfVertices]];
+        int[] weights = new int[targets.length];
+        int[] edgeIds = new int[targets.length];
+
+        for (var edge : edges) {
+            int v1 = edge.getVertex1().getNumber();
+            int v2 = edge.getVertex2().getNumber();
+            int weight = edge instanceof WeightedEdge weighted ? weighted.getWeight() : 1;
+
+            int arc = next[v1]++;
+            targets[arc] = v2;
+            weights[arc] = weight;
+            edgeIds[arc] = edge.getId();
+            if (!directed && v1 != v2) {
+                arc = next[v2]++;
+                targets[arc] = v1;
+                weights[arc] = weight;
+                edgeIds[arc] = edge.getId();
+            }
+        }
+
+        sortRows(offsets, targets, weights, edgeIds);
+        return new AdjacencyArrays(numberOfVertices, directed, offsets, targets, weights, edgeIds);
+    }
+
+    /**
+     * @return The adjacency with every arc turned around, the same instance if it is undirected.
+     */
+    public AdjacencyArrays reversed() {
+        if (!directed)
+            return this;
+
+        int[] reversedOffsets = new int[numberOfVertices + 1];
+        for (int target : targets)
+            reversedOffsets[target + 1]++;
+        for (int v = 0; v < numberOfVertices; v++)
+            reversedOffsets[v + 1] += reversedOffsets[v];
+
+        int[] next = new int[numberOfVertices];
+        System.arraycopy(reversedOffsets, 0, next, 0, numberOfVertices);
+        int[] reversedTargets = new int[targets.length];
+        int[] reversedWeights = new int[targets.length];
+        int[] reversedEdgeIds = new int[targets.length];
+
+        for (int v = 0; v < numberOfVertices; v++) {
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int reversedArc = next[targets[arc]]++;
+                reversedTargets[reversedArc] = v;
+                reversedWeights[reversedArc] = weights[arc];
+                reversedEdgeIds[reversedArc] = edgeIds[arc];
+            }
+        }
+
+        return new AdjacencyArrays(numberOfVertices, true, reversedOffsets, reversedTargets, reversedWeights, reversedEdgeIds);
+    }
+
+    /**
+     * @param newNumbers The new number of every vertex, a permutation of the vertex numbers.
+     * @return The same arcs between the vertices under their new numbers, with the rows sorted by the new targets.
+     */
+    public AdjacencyArrays renumbered(int[] newNumbers) {
+        int[] renumberedOffsets = new int[numberOfVertices + 1];
+        for (int v = 0; v < numberOfVertices; v++)
+            renumberedOffsets[newNumbers[v] + 1] = offsets[v + 1] - offsets[v];
+        for (int v = 0; v < numberOfVertices; v++)
+            renumberedOffsets[v + 1] += renumberedOffsets[v];
+
+        int[] renumberedTargets = new int[targets.length];
+        int[] renumberedWeights = new int[targets.length];
+        int[] renumberedEdgeIds = new int[targets.length];
+        for (int v = 0; v < numberOfVertices; v++) {
+            int arc = renumberedOffsets[newNumbers[v]];
+            for (int oldArc = offsets[v]; oldArc < offsets[v + 1]; oldArc++, arc++) {
+                renumberedTargets[arc] = newNumbers[targets[oldArc]];
+                renumberedWeights[arc] = weights[oldArc];
+                renumberedEdgeIds[arc] = edgeIds[oldArc];
+            }
+        }
+
+        sortRows(renumberedOffsets, renumberedTargets, renumberedWeights, renumberedEdgeIds);
+        return new AdjacencyArrays(numberOfVertices, directed, renumberedOffsets, renumberedTargets, renumberedWeights, renumberedEdgeIds);
+    }
+
+    /**
+     * Sorts the arcs of every vertex by target, moving their weights and edge ids with them.
+     */
+    private static void sortRows(int[] offsets, int[] targets, int[] weights, int[] edgeIds) {
+        for (int v = 0; v + 1 < offsets.length; v++) {
+            int from = offsets[v];
+            int to = offsets[v + 1];
+            if (isSorted(targets, from, to))
+                continue;
+
+            long[] order = new long[to - from];
+            for (int arc = from; arc < to; arc++)
+                order[arc - from] = (long) targets[arc] << 32 | (arc - from);
+            Arrays.sort(order);
+
+            int[] rowWeights = Arrays.copyOfRange(weights, from, to);
+            int[] rowEdgeIds = Arrays.copyOfRange(edgeIds, from, to);
+            for (int i = 0; i < order.length; i++) {
+                int source = (int) order[i];
+                targets[from + i] = (int) (order[i] >>> 32);
+                weights[from + i] = rowWeights[source];
+                edgeIds[from + i] = rowEdgeIds[source];
+            }
+        }
+    }
+
+    private static boolean isSorted(int[] values, int from, int to) {
+        for (int i = from + 1; i < to; i++)
+            if (values[i - 1] > values[i])
+                return false;
+        return true;
+    }
+
+    public int getNumberOfVertices() {
+        return numberOfVertices;
+    }
+
+    public boolean isDirected() {
+        return directed;
+    }
+
+    public int getNumberOfArcs() {
+        return targets.length;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public int[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * @return The id of the graph edge of every arc.
+     */
+    public int[] getEdgeIds() {
+        return edgeIds;
+    }
+
+    /**
+     * @return The smallest arc weight, or {@link Integer#MAX_VALUE} if there are no arcs.
+     */
+    public int getMinWeight() {
+        return minWeight;
+    }
+}
@@ -0,0 +1,110 @@
+package graph.graph;
+
+import graph.metrics.Counter;
+import graph.metrics.Metrics;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The results of the analyses of a graph, so that asking again on an unchanged graph costs nothing.
+ * Every result is stored with the version of the graph parts its analysis depends on, and a change of one of the parts
+ * removes exactly the results that depend on it. At most {@link #getCapacity()} results are kept,
+ * the least recently used one is dropped first.
+ * <p>
+ * The results are shared between all the callers and must not be modified.
+ */
+public class AnalysisCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+    private static final Counter HITS = Metrics.counter(Metrics.ANALYSIS_CACHE_HITS);
+    private static final Counter MISSES = Metrics.counter(Metrics.ANALYSIS_CACHE_MISSES);
+
+    private final Graph graph;
+    private final int capacity;
+    private final LinkedHashMap<Analysis<?>, Result> results;
+
+    AnalysisCache(Graph graph, int capacity) {
+        this.graph = graph;
+        this.capacity = capacity;
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Analysis<?>, Result> eldest) {
+                return size() > AnalysisCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * @return The stored result of the analysis if the graph has not changed since, otherwise the new one.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Analysis<T> analysis) {
+        var version = graph.getVersion(analysis.dependencies);
+        synchronized (this) {
+            var result = results.get(analysis);
+            if (result != null && result.version == version) {
+                HITS.increment();
+                return (T) result.value;
+            }
+        }
+
+        MISSES.increment();
+        var value = analysis.function.apply(graph);
+        synchronized (this) {
+            if (graph.getVersion(analysis.dependencies) == version)
+                results.put(analysis, new Result(version, value));
+        }
+        return value;
+    }
+
+    /**
+     * Removes the results that depend on the part, called by the graph when the part changes.
+     */
+    synchronized void invalidate(GraphPart part) {
+        results.keySet().removeIf(analysis -> analysis.dependencies.contains(part));
+    }
+
+    public synchronized void clear() {
+        results.clear();
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+
+    /**
+     * An analysis of a graph that depends only on the given parts of it. Analyses are compared by identity,
+     * so they should be constants.
+     */
+    public static final class Analysis<T> {
+        private final String name;
+        private final EnumSet<GraphPart> dependencies;
+        private final Function<Graph, T> function;
+
+        public Analysis(String name, Function<Graph, T> function, GraphPart dependency, GraphPart... dependencies) {
+            this.name = name;
+            this.function = function;
+            this.dependencies = EnumSet.of(dependency, dependencies);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private record Result(long version, Object value) {
+    }
+}
@@ -0,0 +1,154 @@
+package graph.graph;
+
+import java.util.Arrays;
+
+/**
+ * Immutable array of 0xRRGGBB colors stored as pages of fixed-size chunks.
+ * A modified copy shares every chunk and page that was not written to, so copying is cheap.
+ */
+final class ColorTable {
+
+    private static final int CHUNK_BITS = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int PAGE_BITS = CHUNK_BITS + 6;
+    private static final int PAGE_SIZE = 1 << (PAGE_BITS - CHUNK_BITS);
+
+    private final int[][][] pages;
+    private final int size;
+    private final int defaultColor;
+
+    private ColorTable(int[][][] pages, int size, int defaultColor) {
+        this.pages = pages;
+        this.size = size;
+        this.defaultColor = defaultColor;
+    }
+
+    static ColorTable filled(int size, int color) {
+        int[] chunk = new int[CHUNK_SIZE];
+        Arrays.fill(chunk, color);
+        int[][] page = new int[PAGE_SIZE][];
+        Arrays.fill(page, chunk);
+        int[][][] pages = new int[(size + (1 << PAGE_BITS) - 1) >>> PAGE_BITS][][];
+        Arrays.fill(pages, page);
+
+        return new ColorTable(pages, size, color);
+    }
+
+    /**
+     * @param palette The colors referenced by the indexes.
+     * @param indexes The palette index of every element of the table.
+     */
+    static ColorTable of(int[] palette, byte[] indexes, int defaultColor) {
+        int size = indexes.length;
+        int[][][] pages = new int[(size + (1 << PAGE_BITS) - 1) >>> PAGE_BITS][][];
+
+        for (int page = 0; page < pages.length; page++) {
+            pages[page] = new int[PAGE_SIZE][];
+            for (int chunk = 0; chunk < PAGE_SIZE; chunk++) {
+                int from = (page << PAGE_BITS) + (chunk << CHUNK_BITS);
+                if (from >= size)
+                    break;
+                int[] colors = new int[CHUNK_SIZE];
+                for (int i = 0; i < CHUNK_SIZE && from + i < size; i++)
+                    colors[i] = palette[indexes[from + i] & 0xFF];
+                pages[page][chunk] = colors;
+            }
+        }
+
+        return new ColorTable(pages, size, defaultColor);
+    }
+
+    /**
+     * @return The color at the index or the default color, if the index is out of the table.
+     */
+    int get(int index) {
+        if (index < 0 || index >= size)
+            return defaultColor;
+        return pages[index >>> PAGE_BITS][(index >>> CHUNK_BITS) & (PAGE_SIZE - 1)][index & (CHUNK_SIZE - 1)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getDefaultColor() {
+        return defaultColor;
+    }
+
+    Builder toBuilder() {
+        return new Builder(this);
+    }
+
+
+    static final class Builder {
+        private final int size;
+        private final int defaultColor;
+        private int[][][] pages;
+        private boolean pagesOwned;
+        private final boolean[] pageOwned;
+        private final boolean[] chunkOwned;
+        private int[] touchedPages = new int[8];
+        private int[] touchedChunks = new int[8];
+        private int touchedPagesCount;
+        private int touchedChunksCount;
+
+        private Builder(ColorTable base) {
+            size = base.size;
+            defaultColor = base.defaultColor;
+            pages = base.pages;
+            pageOwned = new boolean[pages.length];
+            chunkOwned = new boolean[pages.length * PAGE_SIZE];
+        }
+
+        void set(int index, int color) {
+            if (index < 0 || index >= size)
+                return;
+
+            int page = index >>> PAGE_BITS;
+            int chunk = index >>> CHUNK_BITS;
+            int chunkInPage = chunk & (PAGE_SIZE - 1);
+
+            if (!pagesOwned) {
+                pages = pages.clone();
+                pagesOwned = true;
+            }
+            if (!pageOwned[page]) {
+                pages[page] = pages[page].clone();
+                pageOwned[page] = true;
+                touchedPages = append(touchedPages, touchedPagesCount++, page);
+            }
+            if (!chunkOwned[chunk]) {
+                pages[page][chunkInPage] = pages[page][chunkInPage].clone();
+                chunkOwned[chunk] = true;
+                touchedChunks = append(touchedChunks, touchedChunksCount++, chunk);
+            }
+
+            pages[page][chunkInPage][index & (CHUNK_SIZE - 1)] = color;
+        }
+
+        /**
+         * Freezes the current state. Later writes copy the touched chunks again,
+         * so the returned table is never changed.
+         */
+        ColorTable build() {
+            if (!pagesOwned)
+                return new ColorTable(pages, size, defaultColor);
+
+            for (int i = 0; i < touchedPagesCount; i++)
+                pageOwned[touchedPages[i]] = false;
+            for (int i = 0; i < touchedChunksCount; i++)
+                chunkOwned[touchedChunks[i]] = false;
+            touchedPagesCount = touchedChunksCount = 0;
+            pagesOwned = false;
+
+            return new ColorTable(pages, size, defaultColor);
+        }
+
+        private static int[] append(int[] array, int position, int value) {
+            if (position == array.length)
+                array = Arrays.copyOf(array, 2 * array.length);
+            array[position] = value;
+            return array;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package graph.graph;
+
+/**
+ * Colors of the vertices and edges as 0xRRGGBB values, so the model does not depend on AWT.
+ */
+public final class Colors {
+
+    public static final int WHITE = 0xFFFFFF;
+    public static final int LIGHT_GRAY = 0xC0C0C0;
+    public static final int BLACK = 0x000000;
+    public static final int RED = 0xFF0000;
+    public static final int BLUE = 0x0000FF;
+
+    private Colors() {
+    }
+}
@@ -0,0 +1,116 @@
+package graph.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * The adjacency of a spanning forest with the searches that keeping the connectivity of a changing graph needs:
+ * all the vertices of one tree, and the smaller of the two trees that cutting an edge leaves.
+ * The second search walks both trees breadth-first, one vertex of each in turn, until one of them is complete,
+ * so it takes O(s) for the s vertices of the smaller tree however big the other one is.
+ * <p>
+ * The vertices of the last tree found are given by {@link #getVertex} and recognised by {@link #isInFoundTree}
+ * until the next search.
+ */
+public class ForestParts {
+
+    private final ArrayList<HashSet<Integer>> neighbours = new ArrayList<>();
+    private final int[][] parts;
+    private final int[] marks;
+    private int mark;
+    private int side;
+
+    public ForestParts(int numberOfVertices) {
+        for (int v = 0; v < numberOfVertices; v++)
+            neighbours.add(new HashSet<>());
+        parts = new int[2][numberOfVertices];
+        marks = new int[numberOfVertices];
+    }
+
+    /**
+     * Adds the edge between two vertices of different trees.
+     */
+    public void link(int vertex1, int vertex2) {
+        neighbours.get(vertex1).add(vertex2);
+        neighbours.get(vertex2).add(vertex1);
+    }
+
+    public void cut(int vertex1, int vertex2) {
+        neighbours.get(vertex1).remove(vertex2);
+        neighbours.get(vertex2).remove(vertex1);
+    }
+
+    /**
+     * @return The number of vertices in the tree of the vertex.
+     */
+    public int searchTree(int vertex) {
+        nextMark();
+        side = 0;
+        var part = parts[0];
+        var tail = 0;
+        part[tail++] = vertex;
+        marks[vertex] = mark;
+        for (int head = 0; head < tail; head++) {
+            for (var neighbour : neighbours.get(part[head])) {
+                if (marks[neighbour] != mark) {
+                    marks[neighbour] = mark;
+                    part[tail++] = neighbour;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Finds the smaller of the trees of the two vertices, which must be in different trees, e.g. the ends of a cut edge.
+     * @return The number of vertices in the smaller tree.
+     */
+    public int searchSmallerTree(int vertex1, int vertex2) {
+        nextMark();
+        var heads = new int[2];
+        var tails = new int[2];
+        parts[0][tails[0]++] = vertex1;
+        parts[1][tails[1]++] = vertex2;
+        marks[vertex1] = mark;
+        marks[vertex2] = mark + 1;
+        while (true) {
+            for (side = 0; side < 2; side++) {
+                var part = parts[side];
+                if (heads[side] == tails[side])
+                    return tails[side];
+
+                var vertex = part[heads[side]++];
+                for (var neighbour : neighbours.get(vertex)) {
+                    if (marks[neighbour] != mark + side) {
+                        marks[neighbour] = mark + side;
+                        part[tails[side]++] = neighbour;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param index Less than the size returned by the last search.
+     * @return A vertex of the tree found by the last search.
+     */
+    public int getVertex(int index) {
+        return parts[side][index];
+    }
+
+    public boolean isInFoundTree(int vertex) {
+        return marks[vertex] == mark + side;
+    }
+
+    /**
+     * The two trees of a search are marked with {@code mark} and {@code mark + 1}.
+     */
+    private void nextMark() {
+        if (mark >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(marks, 0);
+            mark = 0;
+        }
+        mark += 2;
+    }
+}
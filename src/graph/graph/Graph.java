@@ -3,21 +3,24 @@ package graph.graph;
 import graph.edges.DirectedEdge;
 import graph.edges.Edge;
 import graph.edges.WeightedEdge;
+import graph.jfr.GraphConstructionEvent;
+import graph.metrics.Counter;
+import graph.metrics.Metrics;
 import graph.math.MatrixHelper;
 import graph.math.Point;
 import graph.vertices.Vertex;
 
-import javax.swing.*;
-import java.awt.*;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Random;
 
-public class Graph extends JComponent {
+public class Graph {
 
-    private static final int NUMBER_OF_VERTICES = 12;
+    private static final int DEFAULT_NUMBER_OF_VERTICES = 12;
     private static final double MAX_RANDOM = 2.0;
     private static final int SEED = 3320;
+    private static final Counter MUTATIONS = Metrics.counter(Metrics.GRAPH_MUTATIONS);
+    private final int numberOfVertices;
     private int[][] directedGraphMatrix;
     private int[][] undirectedGraphMatrix;
     private int[][] weightsMatrix;
@@ -27,41 +30,57 @@ public class Graph extends JComponent {
     private HashSet<Edge> directedEdges = new HashSet<>();
     private HashSet<Edge> weightedUndirectedEdges = new HashSet<>();
     private HashSet<Edge> currentEdges = weightedUndirectedEdges;
-    private HashSet<Edge> drawnEdges = new HashSet<>();
+    private ArrayList<Edge> edgesById = new ArrayList<>();
+    private RenderBuffer renderBuffer;
+    private GraphStatistics statistics;
+    private volatile long modificationCount = 0;
+    private final long[] versions = new long[GraphPart.values().length];
+    private AnalysisCache analysisCache;
 
     public Graph() {
-        directedGraphMatrix = new int[NUMBER_OF_VERTICES][NUMBER_OF_VERTICES];
-        undirectedGraphMatrix = new int[NUMBER_OF_VERTICES][NUMBER_OF_VERTICES];
-        weightsMatrix = new int[NUMBER_OF_VERTICES][NUMBER_OF_VERTICES];
-        initVertices();
+        this(DEFAULT_NUMBER_OF_VERTICES);
     }
 
-    public Graph(double k) {
-        this.k = k;
-        initMatrices();
+    /**
+     * Creates the graph with the given number of vertices and no edges.
+     */
+    public Graph(int numberOfVertices) {
+        this.numberOfVertices = numberOfVertices;
+        directedGraphMatrix = new int[numberOfVertices][numberOfVertices];
+        undirectedGraphMatrix = new int[numberOfVertices][numberOfVertices];
+        weightsMatrix = new int[numberOfVertices][numberOfVertices];
         initVertices();
-        initEdges();
+        initRenderBuffer();
     }
 
-    public Graph(int[][] directedGraphMatrix) {
-        initMatrices(directedGraphMatrix);
-        initVertices();
-        initEdges();
+    public Graph(double k) {
+        this(DEFAULT_NUMBER_OF_VERTICES, k);
     }
 
+    /**
+     * Generates the random graph with the given number of vertices.
+     * @param k The coefficient of the random matrix. The bigger it is, the more edges the graph has.
+     */
+    public Graph(int numberOfVertices, double k) {
+        this.numberOfVertices = numberOfVertices;
+        this.k = k;
+        constructionPhase("initMatrices", this::initMatrices);
+        constructionPhase("initVertices", this::initVertices);
+        constructionPhase("initEdges", this::initEdges);
+        initRenderBuffer();
+    }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        drawnEdges.clear();
-        for (var edge : currentEdges)
-            edge.paintComponent(g);
-        for (var vertex : vertices)
-            vertex.paintComponent(g);
+    public Graph(int[][] directedGraphMatrix) {
+        numberOfVertices = directedGraphMatrix.length;
+        constructionPhase("initMatrices", () -> initMatrices(directedGraphMatrix));
+        constructionPhase("initVertices", this::initVertices);
+        constructionPhase("initEdges", this::initEdges);
+        initRenderBuffer();
     }
 
 
     public void addEdge(WeightedEdge edge) {
-        weightedUndirectedEdges.add(edge);
+        var added = weightedUndirectedEdges.add(edge);
 
         var v1 = edge.getVertex1().getNumber();
         var v2 = edge.getVertex2().getNumber();
@@ -69,16 +88,22 @@ public class Graph extends JComponent {
 
         undirectedGraphMatrix[v1][v2] = undirectedGraphMatrix[v2][v1] = 1;
         weightsMatrix[v1][v2] = weightsMatrix[v2][v1] = weight;
+        if (added && statistics != null)
+            statistics.edgeAdded(v1, v2);
+        modified(GraphPart.UNDIRECTED_EDGES);
     }
 
     public void deleteEdge(WeightedEdge edge) {
-        weightedUndirectedEdges.remove(edge);
+        var removed = weightedUndirectedEdges.remove(edge);
 
         var v1 = edge.getVertex1().getNumber();
         var v2 = edge.getVertex2().getNumber();
 
         undirectedGraphMatrix[v1][v2] = undirectedGraphMatrix[v2][v1] = 0;
         weightsMatrix[v1][v2] = weightsMatrix[v2][v1] = 0;
+        if (removed && statistics != null)
+            statistics.edgeDeleted(v1, v2);
+        modified(GraphPart.UNDIRECTED_EDGES);
     }
 
 
@@ -98,6 +123,62 @@ public class Graph extends JComponent {
         return weightedUndirectedEdges;
     }
 
+    /**
+     * @param id The id of the edge, given to it by this graph.
+     */
+    public Edge getEdge(int id) {
+        return edgesById.get(id);
+    }
+
+    public int getNumberOfEdges() {
+        return edgesById.size();
+    }
+
+    /**
+     * @return The number that changes on every change of the edges or vertices, e.g. to know when to update the geometry.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * @return The number that changes on every change of any of the parts, so that a result calculated from them is still valid
+     * while it stays the same.
+     */
+    public synchronized long getVersion(Iterable<GraphPart> parts) {
+        long version = 0;
+        for (var part : parts)
+            version += versions[part.ordinal()];
+        return version;
+    }
+
+    /**
+     * @return The cache of the analyses of this graph, e.g. the ones of {@link GraphHelper} that take the graph.
+     */
+    public synchronized AnalysisCache getAnalysisCache() {
+        if (analysisCache == null)
+            analysisCache = new AnalysisCache(this, AnalysisCache.DEFAULT_CAPACITY);
+        return analysisCache;
+    }
+
+    public HashSet<Edge> getCurrentEdges() {
+        return currentEdges;
+    }
+
+    /**
+     * @return The degrees and connectivity of the weighted undirected graph, kept up to date on every added or deleted edge
+     * from the first call on.
+     */
+    public GraphStatistics getStatistics() {
+        if (statistics == null)
+            statistics = new GraphStatistics(this);
+        return statistics;
+    }
+
+    public RenderBuffer getRenderBuffer() {
+        return renderBuffer;
+    }
+
     public int[][] getDirectedGraphMatrix() {
         return directedGraphMatrix;
     }
@@ -112,6 +193,8 @@ public class Graph extends JComponent {
 
     public void setVertices(ArrayList<Vertex> vertices) {
         this.vertices = vertices;
+        initRenderBuffer();
+        modified(GraphPart.VERTICES);
     }
 
     public void switchEdges() {
@@ -119,6 +202,7 @@ public class Graph extends JComponent {
             currentEdges = directedEdges;
         else
             currentEdges = weightedUndirectedEdges;
+        modified();
     }
 
     private void initMatrices() {
@@ -134,9 +218,9 @@ public class Graph extends JComponent {
     }
 
     private void initVertices() {
-        GraphStructure graphStructure = new GraphStructure();
+        GraphStructure graphStructure = new GraphStructure(numberOfVertices);
 
-        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+        for (int i = 0; i < numberOfVertices; i++) {
             Point coordinates = graphStructure.getNextPosition();
             vertices.add(new Vertex(i, coordinates.x(), coordinates.y()));
         }
@@ -146,6 +230,46 @@ public class Graph extends JComponent {
         initUndirectedEdges();
         initDirectedEdges();
         initWeightedUndirectedEdges();
+        modificationCount++;
+    }
+
+    private void modified() {
+        modificationCount++;
+        MUTATIONS.increment();
+    }
+
+    private void modified(GraphPart part) {
+        AnalysisCache cache;
+        synchronized (this) {
+            versions[part.ordinal()]++;
+            cache = analysisCache;
+        }
+        if (cache != null)
+            cache.invalidate(part);
+        modified();
+    }
+
+    private void constructionPhase(String phase, Runnable init) {
+        var event = new GraphConstructionEvent();
+        event.begin();
+        init.run();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.numberOfVertices = numberOfVertices;
+            event.numberOfEdges = edgesById.size();
+            event.commit();
+        }
+    }
+
+    private void initRenderBuffer() {
+        renderBuffer = new RenderBuffer(RenderSnapshot.filled(vertices.size(), edgesById.size(), Colors.WHITE, Colors.BLACK));
+    }
+
+    private void addEdge(HashSet<Edge> edges, Edge edge) {
+        if (edges.add(edge)) {
+            edge.setId(edgesById.size());
+            edgesById.add(edge);
+        }
     }
 
 
@@ -155,9 +279,9 @@ public class Graph extends JComponent {
     }
 
     private int[][] calculateUndirectedGraphMatrix() {
-        int[][] matrix = new int[NUMBER_OF_VERTICES][NUMBER_OF_VERTICES];
-        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
-            for (int j = 0; j < NUMBER_OF_VERTICES; j++) {
+        int[][] matrix = new int[numberOfVertices][numberOfVertices];
+        for (int i = 0; i < numberOfVertices; i++) {
+            for (int j = 0; j < numberOfVertices; j++) {
                 if (directedGraphMatrix[i][j] == 1) {
                     matrix[i][j] = 1;
                     matrix[j][i] = 1;
@@ -186,7 +310,7 @@ public class Graph extends JComponent {
                 H[i][j] = D[i][j] != D[j][i] ? 1 : 0;
         }
 
-        int[][] tr = MatrixHelper.upperTriangularMatrix(NUMBER_OF_VERTICES);
+        int[][] tr = MatrixHelper.upperTriangularMatrix(numberOfVertices);
         int[][] W = new int[B.length][B.length];
 
         for (int i = 0; i < W.length; i++) {
@@ -201,28 +325,28 @@ public class Graph extends JComponent {
     }
 
     private void initUndirectedEdges() {
-        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
-            for (int j = 0; j < NUMBER_OF_VERTICES; j++) {
+        for (int i = 0; i < numberOfVertices; i++) {
+            for (int j = 0; j < numberOfVertices; j++) {
                 if (undirectedGraphMatrix[i][j] == 1)
-                    undirectedEdges.add(new Edge(vertices.get(i), vertices.get(j), vertices));
+                    addEdge(undirectedEdges, new Edge(vertices.get(i), vertices.get(j), vertices));
             }
         }
     }
 
     private void initDirectedEdges() {
-        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
-            for (int j = 0; j < NUMBER_OF_VERTICES; j++) {
+        for (int i = 0; i < numberOfVertices; i++) {
+            for (int j = 0; j < numberOfVertices; j++) {
                 if (directedGraphMatrix[i][j] == 1)
-                    directedEdges.add(new DirectedEdge(vertices.get(i), vertices.get(j), vertices, drawnEdges));
+                    addEdge(directedEdges, new DirectedEdge(vertices.get(i), vertices.get(j), vertices));
             }
         }
     }
 
     private void initWeightedUndirectedEdges() {
-        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
-            for (int j = 0; j < NUMBER_OF_VERTICES; j++) {
+        for (int i = 0; i < numberOfVertices; i++) {
+            for (int j = 0; j < numberOfVertices; j++) {
                 if (undirectedGraphMatrix[i][j] == 1)
-                    weightedUndirectedEdges.add(new WeightedEdge(vertices.get(i), vertices.get(j), weightsMatrix[i][j], vertices));
+                    addEdge(weightedUndirectedEdges, new WeightedEdge(vertices.get(i), vertices.get(j), weightsMatrix[i][j], vertices));
             }
         }
 
@@ -231,10 +355,10 @@ public class Graph extends JComponent {
 
     private double[][] getRandomMatrix() {
         Random random = new Random(SEED);
-        double[][] randomMatrix = new double[NUMBER_OF_VERTICES][NUMBER_OF_VERTICES];
+        double[][] randomMatrix = new double[numberOfVertices][numberOfVertices];
 
-        for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
-            for (int j = 0; j < NUMBER_OF_VERTICES; j++)
+        for (int i = 0; i < numberOfVertices; i++) {
+            for (int j = 0; j < numberOfVertices; j++)
                 randomMatrix[i][j] = k * random.nextDouble(MAX_RANDOM);
         }
 
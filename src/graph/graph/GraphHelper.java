@@ -1,7 +1,9 @@
 package graph.graph;
 
+import graph.algorithms.paths.SimplePathEngine;
 import graph.edges.Edge;
 import graph.edges.WeightedEdge;
+import graph.graph.AnalysisCache.Analysis;
 import graph.vertices.Vertex;
 import static graph.math.MatrixHelper.*;
 
@@ -9,7 +11,32 @@ import java.util.*;
 
 public class GraphHelper {
 
+    public static final Analysis<Vertex> START_VERTEX = new Analysis<>("startVertex",
+            GraphHelper::findStartVertex, GraphPart.DIRECTED_EDGES, GraphPart.VERTICES);
+    public static final Analysis<HashMap<Integer, Degree>> DIRECTED_DEGREES = new Analysis<>("directedDegrees",
+            graph -> calculateDirectedGraphDegrees(graph.getDirectedGraphMatrix()), GraphPart.DIRECTED_EDGES);
+    public static final Analysis<HashMap<Integer, Degree>> UNDIRECTED_DEGREES = new Analysis<>("undirectedDegrees",
+            graph -> calculateUndirectedGraphDegrees(graph.getUndirectedGraphMatrix()), GraphPart.UNDIRECTED_EDGES);
+    public static final Analysis<int[][]> REACHABILITY = new Analysis<>("reachability",
+            graph -> calculateReachabilityMatrix(graph.getDirectedGraphMatrix()), GraphPart.DIRECTED_EDGES);
+    public static final Analysis<int[][]> STRONG_CONNECTIVITY = new Analysis<>("strongConnectivity",
+            graph -> {
+                var reachability = calculateReachabilityMatrix(graph);
+                return union(reachability, transpose(reachability));
+            }, GraphPart.DIRECTED_EDGES);
+    public static final Analysis<ArrayList<ArrayList<Integer>>> STRONGLY_CONNECTED_COMPONENTS = new Analysis<>("stronglyConnectedComponents",
+            graph -> listOfStronglyConnectedComponents(calculateMatrixOfStrongConnectivity(graph)), GraphPart.DIRECTED_EDGES);
+    public static final Analysis<Integer> TOTAL_EDGE_WEIGHT = new Analysis<>("totalEdgeWeight",
+            GraphHelper::sumEdgeWeights, GraphPart.UNDIRECTED_EDGES);
+
+    /**
+     * @return The first vertex with an outgoing directed edge, or the first vertex. Cached until the graph changes.
+     */
     public static Vertex getStartVertex(Graph graph) {
+        return graph.getAnalysisCache().get(START_VERTEX);
+    }
+
+    private static Vertex findStartVertex(Graph graph) {
         var matrix = graph.getDirectedGraphMatrix();
 
         for (int i = 0; i < matrix.length; i++) {
@@ -51,6 +78,20 @@ public class GraphHelper {
     }
 
 
+    /**
+     * @return The shared degrees of the directed graph, cached until it changes.
+     */
+    public static HashMap<Integer, Degree> calculateDirectedGraphDegrees(Graph graph) {
+        return graph.getAnalysisCache().get(DIRECTED_DEGREES);
+    }
+
+    /**
+     * @return The shared degrees of the weighted undirected graph, cached until it changes.
+     */
+    public static HashMap<Integer, Degree> calculateUndirectedGraphDegrees(Graph graph) {
+        return graph.getAnalysisCache().get(UNDIRECTED_DEGREES);
+    }
+
     public static HashMap<Integer, Degree> calculateDirectedGraphDegrees(int[][] graphMatrix) {
         HashMap<Integer, Degree> degrees = new HashMap<>();
         for (int i = 0; i < graphMatrix.length; i++)
@@ -135,53 +176,60 @@ public class GraphHelper {
         return allPathsWithLength2and3List;
     }
 
+    /**
+     * @return The simple paths with 2 edges, ordered by the first vertex, then the last one, then the middle one.
+     * @see SimplePathEngine for counting or streaming the paths without holding them all.
+     */
     public static ArrayList<ArrayList<Integer>> allPathsWithLength2(int[][] graphMatrix) {
-        int[][] graphMatrixSquared = pow(graphMatrix, 2);
         ArrayList<ArrayList<Integer>> paths = new ArrayList<>();
-
-        for (int i = 0; i < graphMatrix.length; i++) {
-            for (int j = 0; j < graphMatrix.length; j++) {
-                if (i == j)
-                    continue;
-
-                if (graphMatrixSquared[i][j] >= 1) {
-                    for (int k = 0; k < graphMatrix.length; k++) {
-                        if (k == i || k == j)
-                            continue;
-
-                        if (graphMatrix[i][k] == 1 && graphMatrix[k][j] == 1) {
-                            ArrayList<Integer> path = new ArrayList<>();
-                            path.add(i);
-                            path.add(k);
-                            path.add(j);
-                            paths.add(path);
-                        }
-                    }
-                }
-            }
-        }
+        SimplePathEngine.forEach(AdjacencyArrays.ofAdjacencyMatrix(graphMatrix), 2,
+                path -> paths.add(new ArrayList<>(List.of(path[0], path[1], path[2]))));
+        paths.sort(Comparator.comparing((ArrayList<Integer> path) -> path.get(0)).thenComparing(path -> path.get(2)));
 
         return paths;
     }
 
+    /**
+     * @return The simple paths with 3 edges that extend the given paths with 2 edges, every extension as a path of its own.
+     * The given paths are not changed.
+     */
     public static ArrayList<ArrayList<Integer>> allPathsWithLength3(int[][] graphMatrix, ArrayList<ArrayList<Integer>> pathsLength2) {
-        var iterator = pathsLength2.iterator();
-        while (iterator.hasNext()) {
-            var path = iterator.next();
-            var thirdVertexInPath = path.get(2);
-            for (int k = 0; k < graphMatrix.length; k++) {
-                if (graphMatrix[thirdVertexInPath][k] == 1
-                        && k != path.get(0)
-                        && k != path.get(1)
-                        && k != path.get(2)) {
-                    path.add(k);
-                }
-            }
-            if (path.size() == 3)
-                iterator.remove();
+        ArrayList<ArrayList<Integer>> paths = new ArrayList<>();
+        var adjacency = AdjacencyArrays.ofAdjacencyMatrix(graphMatrix);
+        var prefix = new int[3];
+        for (var path : pathsLength2) {
+            for (int i = 0; i < prefix.length; i++)
+                prefix[i] = path.get(i);
+            SimplePathEngine.forEachExtension(adjacency, prefix, longerPath -> {
+                var extended = new ArrayList<Integer>(path.size() + 1);
+                extended.addAll(path);
+                extended.add(longerPath[3]);
+                paths.add(extended);
+            });
         }
 
-        return pathsLength2;
+        return paths;
+    }
+
+    /**
+     * @return The shared reachability matrix of the directed graph, cached until it changes.
+     */
+    public static int[][] calculateReachabilityMatrix(Graph graph) {
+        return graph.getAnalysisCache().get(REACHABILITY);
+    }
+
+    /**
+     * @return The shared strong connectivity matrix of the directed graph, cached until it changes.
+     */
+    public static int[][] calculateMatrixOfStrongConnectivity(Graph graph) {
+        return graph.getAnalysisCache().get(STRONG_CONNECTIVITY);
+    }
+
+    /**
+     * @return The shared strongly connected components of the directed graph, cached until it changes.
+     */
+    public static ArrayList<ArrayList<Integer>> listOfStronglyConnectedComponents(Graph graph) {
+        return graph.getAnalysisCache().get(STRONGLY_CONNECTED_COMPONENTS);
     }
 
     public static int[][] calculateReachabilityMatrix(int[][] graphMatrix) {
@@ -270,7 +318,14 @@ public class GraphHelper {
         return list;
     }
 
+    /**
+     * @return The sum of the weights of the weighted undirected edges, cached until they change.
+     */
     public static int getTotalEdgeWeight(Graph graph) {
+        return graph.getAnalysisCache().get(TOTAL_EDGE_WEIGHT);
+    }
+
+    private static int sumEdgeWeights(Graph graph) {
         return graph.getWeightedUndirectedEdges()
                 .stream()
                 .map(edge -> ((WeightedEdge) edge).getWeight())
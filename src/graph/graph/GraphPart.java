@@ -0,0 +1,13 @@
+package graph.graph;
+
+/**
+ * The parts of a {@link Graph} that change independently, each with its own version.
+ */
+public enum GraphPart {
+    /** The directed graph matrix and the directed edges. */
+    DIRECTED_EDGES,
+    /** The undirected graph matrix, the weights and the weighted undirected edges. */
+    UNDIRECTED_EDGES,
+    /** The vertices and their positions. */
+    VERTICES
+}
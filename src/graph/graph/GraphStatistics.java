@@ -0,0 +1,216 @@
+package graph.graph;
+
+import graph.edges.Edge;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * The degrees and connectivity summaries of the weighted undirected graph, kept up to date on every
+ * {@link Graph#addEdge} and {@link Graph#deleteEdge} instead of being recalculated from the matrices.
+ * <p>
+ * Degrees, the degree histogram and the edge count are updated in O(1). The connectivity is kept as a spanning forest
+ * and a component label for every vertex, so the queries are O(1) and nothing is ever rebuilt:
+ * <ul>
+ *     <li>An edge inside a component, or the deletion of an edge that is not in the forest, costs O(1).</li>
+ *     <li>An edge between two components relabels the smaller one, O(log V) amortized while edges are only added.</li>
+ *     <li>Deleting a forest edge finds the smaller half of its tree with {@link ForestParts} and looks for
+ *     a replacement among the other edges of that half only. It costs O(s + e) for the s vertices and e edges
+ *     of the smaller half: O(1) near the leaves, O(V + E) only for a bridge that splits a component in half.</li>
+ * </ul>
+ * The directed degrees are calculated once, since the directed graph is never modified.
+ */
+public class GraphStatistics {
+
+    private final int numberOfVertices;
+    private final int[] degrees;
+    private final int[] degreeCounts;
+    private final int[] outDegrees;
+    private final int[] inDegrees;
+    private int numberOfDistinctDegrees;
+    private int numberOfEdges;
+
+    private final int[] labels;
+    private final int[] sizes;
+    private final int[] freeLabels;
+    private int numberOfFreeLabels;
+    private int numberOfComponents;
+    private final ForestParts forest;
+    private final ArrayList<HashSet<Integer>> otherNeighbours = new ArrayList<>();
+
+    GraphStatistics(Graph graph) {
+        numberOfVertices = graph.getVertices().size();
+        degrees = new int[numberOfVertices];
+        degreeCounts = new int[numberOfVertices + 1];
+        outDegrees = new int[numberOfVertices];
+        inDegrees = new int[numberOfVertices];
+        labels = new int[numberOfVertices];
+        sizes = new int[numberOfVertices];
+        freeLabels = new int[numberOfVertices];
+        forest = new ForestParts(numberOfVertices);
+        numberOfComponents = numberOfVertices;
+        for (int v = 0; v < numberOfVertices; v++) {
+            labels[v] = v;
+            sizes[v] = 1;
+            otherNeighbours.add(new HashSet<>());
+        }
+
+        var undirectedGraphMatrix = graph.getUndirectedGraphMatrix();
+        var directedGraphMatrix = graph.getDirectedGraphMatrix();
+        for (int i = 0; i < numberOfVertices; i++) {
+            for (int j = 0; j < numberOfVertices; j++) {
+                if (undirectedGraphMatrix[i][j] == 1)
+                    degrees[i]++;
+                if (directedGraphMatrix[i][j] == 1) {
+                    outDegrees[i]++;
+                    inDegrees[j]++;
+                }
+            }
+            if (degreeCounts[degrees[i]]++ == 0)
+                numberOfDistinctDegrees++;
+        }
+        numberOfEdges = graph.getWeightedUndirectedEdges().size();
+        for (Edge edge : graph.getWeightedUndirectedEdges())
+            connect(edge.getVertex1().getNumber(), edge.getVertex2().getNumber());
+    }
+
+    /**
+     * @return The undirected degree of the vertex, a loop counts once.
+     */
+    public int getDegree(int vertex) {
+        return degrees[vertex];
+    }
+
+    public int getOutDegree(int vertex) {
+        return outDegrees[vertex];
+    }
+
+    public int getInDegree(int vertex) {
+        return inDegrees[vertex];
+    }
+
+    /**
+     * @return The number of vertices with the given undirected degree.
+     */
+    public int getNumberOfVerticesWithDegree(int degree) {
+        return degree >= 0 && degree < degreeCounts.length ? degreeCounts[degree] : 0;
+    }
+
+    public int getNumberOfIsolatedVertices() {
+        return getNumberOfVerticesWithDegree(0);
+    }
+
+    public int getNumberOfEndVertices() {
+        return getNumberOfVerticesWithDegree(1);
+    }
+
+    public boolean isRegular() {
+        return numberOfDistinctDegrees <= 1;
+    }
+
+    public int getNumberOfEdges() {
+        return numberOfEdges;
+    }
+
+    public int getNumberOfComponents() {
+        return numberOfComponents;
+    }
+
+    public boolean isConnected() {
+        return numberOfComponents <= 1;
+    }
+
+    /**
+     * @return True if there is a path between the vertices.
+     */
+    public boolean areConnected(int vertex1, int vertex2) {
+        return labels[vertex1] == labels[vertex2];
+    }
+
+    /**
+     * @return The number of vertices in the component of the vertex.
+     */
+    public int getComponentSize(int vertex) {
+        return sizes[labels[vertex]];
+    }
+
+    void edgeAdded(int vertex1, int vertex2) {
+        numberOfEdges++;
+        changeDegree(vertex1, 1);
+        if (vertex1 != vertex2)
+            changeDegree(vertex2, 1);
+        connect(vertex1, vertex2);
+    }
+
+    void edgeDeleted(int vertex1, int vertex2) {
+        numberOfEdges--;
+        changeDegree(vertex1, -1);
+        if (vertex1 != vertex2)
+            changeDegree(vertex2, -1);
+        disconnect(vertex1, vertex2);
+    }
+
+    private void changeDegree(int vertex, int delta) {
+        if (--degreeCounts[degrees[vertex]] == 0)
+            numberOfDistinctDegrees--;
+        degrees[vertex] += delta;
+        if (degreeCounts[degrees[vertex]]++ == 0)
+            numberOfDistinctDegrees++;
+    }
+
+    /**
+     * Adds the edge to the forest if it joins two components, relabelling the smaller one.
+     */
+    private void connect(int vertex1, int vertex2) {
+        var label1 = labels[vertex1];
+        var label2 = labels[vertex2];
+        if (label1 == label2) {
+            otherNeighbours.get(vertex1).add(vertex2);
+            otherNeighbours.get(vertex2).add(vertex1);
+            return;
+        }
+
+        var smaller = sizes[label1] < sizes[label2] ? vertex1 : vertex2;
+        var label = sizes[label1] < sizes[label2] ? label2 : label1;
+        var oldLabel = labels[smaller];
+        var size = forest.searchTree(smaller);
+        for (int i = 0; i < size; i++)
+            labels[forest.getVertex(i)] = label;
+        sizes[label] += size;
+        freeLabels[numberOfFreeLabels++] = oldLabel;
+        numberOfComponents--;
+        forest.link(vertex1, vertex2);
+    }
+
+    /**
+     * Removes the edge, and if it was in the forest, links a replacement edge or splits the component.
+     */
+    private void disconnect(int vertex1, int vertex2) {
+        if (otherNeighbours.get(vertex1).remove(vertex2)) {
+            otherNeighbours.get(vertex2).remove(vertex1);
+            return;
+        }
+        forest.cut(vertex1, vertex2);
+
+        var size = forest.searchSmallerTree(vertex1, vertex2);
+        for (int i = 0; i < size; i++) {
+            var vertex = forest.getVertex(i);
+            for (var neighbour : otherNeighbours.get(vertex)) {
+                if (!forest.isInFoundTree(neighbour)) {
+                    otherNeighbours.get(vertex).remove(neighbour);
+                    otherNeighbours.get(neighbour).remove(vertex);
+                    forest.link(vertex, neighbour);
+                    return;
+                }
+            }
+        }
+
+        var oldLabel = labels[vertex1];
+        var label = freeLabels[--numberOfFreeLabels];
+        for (int i = 0; i < size; i++)
+            labels[forest.getVertex(i)] = label;
+        sizes[label] = size;
+        sizes[oldLabel] -= size;
+        numberOfComponents++;
+    }
+}
@@ -4,15 +4,19 @@ import graph.math.Point;
 
 public class GraphStructure {
 
-    private final int NUMBER_OF_VERTICES = 12;
+    private final int numberOfVertices;
     private int width = 1600;
     private int height = 900;
     private int currentIndex = 0;
     private Point center = new Point(width/2, height/2);
     private int radius = 300;
 
+    public GraphStructure(int numberOfVertices) {
+        this.numberOfVertices = numberOfVertices;
+    }
+
     public Point getNextPosition() {
-        double angle = currentIndex * 2 * Math.PI / NUMBER_OF_VERTICES;
+        double angle = currentIndex * 2 * Math.PI / numberOfVertices;
         currentIndex++;
 
         return shiftPoint(angle);
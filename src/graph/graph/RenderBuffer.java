@@ -0,0 +1,45 @@
+package graph.graph;
+
+/**
+ * Double buffer between the thread that changes colors and the renderer.
+ * Changes go to the back buffer and become visible all at once on {@link #publish()},
+ * while the renderer reads the front snapshot without any locking.
+ */
+public class RenderBuffer {
+
+    private volatile RenderSnapshot front;
+    private RenderSnapshot.Builder back;
+
+    public RenderBuffer(RenderSnapshot initial) {
+        front = initial;
+        back = initial.toBuilder();
+    }
+
+    public RenderSnapshot front() {
+        return front;
+    }
+
+    public synchronized void setVertexColor(int number, int color) {
+        back.setVertexColor(number, color);
+    }
+
+    public synchronized void setEdgeColor(int id, int color) {
+        back.setEdgeColor(id, color);
+    }
+
+    public synchronized void publish() {
+        front = back.build();
+    }
+
+    /**
+     * Replaces both buffers, dropping the changes that were not published.
+     */
+    public synchronized void publish(RenderSnapshot snapshot) {
+        back = snapshot.toBuilder();
+        front = snapshot;
+    }
+
+    public void clear() {
+        publish(front.cleared());
+    }
+}
@@ -0,0 +1,92 @@
+package graph.graph;
+
+/**
+ * Immutable colors of the vertices and edges of a graph at one moment of an algorithm.
+ * Vertices are indexed by their numbers and edges by their ids, the colors are {@link Colors} values.
+ */
+public final class RenderSnapshot {
+
+    private final ColorTable vertexColors;
+    private final ColorTable edgeColors;
+
+    private RenderSnapshot(ColorTable vertexColors, ColorTable edgeColors) {
+        this.vertexColors = vertexColors;
+        this.edgeColors = edgeColors;
+    }
+
+    public static RenderSnapshot filled(int numberOfVertices, int numberOfEdges, int vertexColor, int edgeColor) {
+        return new RenderSnapshot(ColorTable.filled(numberOfVertices, vertexColor), ColorTable.filled(numberOfEdges, edgeColor));
+    }
+
+    /**
+     * Builds the snapshot from the palette indexes of all the colors, e.g. from a keyframe.
+     */
+    public static RenderSnapshot fromPalette(int[] palette, byte[] vertexColors, byte[] edgeColors,
+                                             int defaultVertexColor, int defaultEdgeColor) {
+        return new RenderSnapshot(ColorTable.of(palette, vertexColors, defaultVertexColor),
+                ColorTable.of(palette, edgeColors, defaultEdgeColor));
+    }
+
+    public int getVertexColor(int number) {
+        return vertexColors.get(number);
+    }
+
+    public int getEdgeColor(int id) {
+        return edgeColors.get(id);
+    }
+
+    public int getDefaultVertexColor() {
+        return vertexColors.getDefaultColor();
+    }
+
+    public int getDefaultEdgeColor() {
+        return edgeColors.getDefaultColor();
+    }
+
+    public int getNumberOfVertices() {
+        return vertexColors.size();
+    }
+
+    public int getNumberOfEdges() {
+        return edgeColors.size();
+    }
+
+    /**
+     * @return The snapshot of the same size with every element painted in the default color.
+     */
+    public RenderSnapshot cleared() {
+        return filled(vertexColors.size(), edgeColors.size(), vertexColors.getDefaultColor(), edgeColors.getDefaultColor());
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+
+    /**
+     * Mutable copy of a snapshot. Only the chunks that are written to get copied.
+     */
+    public static final class Builder {
+        private final ColorTable.Builder vertexColors;
+        private final ColorTable.Builder edgeColors;
+
+        private Builder(RenderSnapshot base) {
+            vertexColors = base.vertexColors.toBuilder();
+            edgeColors = base.edgeColors.toBuilder();
+        }
+
+        public Builder setVertexColor(int number, int color) {
+            vertexColors.set(number, color);
+            return this;
+        }
+
+        public Builder setEdgeColor(int id, int color) {
+            edgeColors.set(id, color);
+            return this;
+        }
+
+        public RenderSnapshot build() {
+            return new RenderSnapshot(vertexColors.build(), edgeColors.build());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package graph.graph;
+
+import java.util.Arrays;
+
+/**
+ * A renumbering of the vertices that puts the neighbours of a vertex close to it, so that the traversals of
+ * {@link AdjacencyArrays} and the rows of the matrices touch fewer cache lines. The order keeps the permutation
+ * both ways, so the results of an algorithm run on the renumbered graph can be mapped back to the original numbers.
+ * <pre>
+ * var order = VertexOrder.compute(adjacency, VertexOrder.Strategy.REVERSE_CUTHILL_MCKEE);
+ * var levels = ParallelBfsEngine.search(order.apply(adjacency), order.toNew(source)).getLevels();
+ * var originalLevels = order.toOriginalOrder(levels);
+ * </pre>
+ */
+public class VertexOrder {
+
+    public enum Strategy {
+        /** Breadth-first from the smallest vertex of every component not reached yet. */
+        BFS,
+        /** From the biggest degree to the smallest, so the hubs share the first rows. */
+        DEGREE,
+        /** Breadth-first from a vertex of the smallest degree, the neighbours by increasing degree, then reversed. */
+        REVERSE_CUTHILL_MCKEE
+    }
+
+    private final int[] newNumbers;
+    private final int[] oldNumbers;
+
+    private VertexOrder(int[] oldNumbers) {
+        this.oldNumbers = oldNumbers;
+        newNumbers = new int[oldNumbers.length];
+        for (int i = 0; i < oldNumbers.length; i++)
+            newNumbers[oldNumbers[i]] = i;
+    }
+
+    /**
+     * The arcs of a directed adjacency are followed both ways, and the degree is the sum of the in and out degrees.
+     */
+    public static VertexOrder compute(AdjacencyArrays adjacency, Strategy strategy) {
+        var reversed = adjacency.reversed();
+        var degrees = degrees(adjacency, reversed);
+        var oldNumbers = switch (strategy) {
+            case BFS -> breadthFirst(adjacency, reversed, degrees, identity(degrees.length), false);
+            case DEGREE -> reverse(sortByDegree(degrees));
+            case REVERSE_CUTHILL_MCKEE -> reverse(breadthFirst(adjacency, reversed, degrees, sortByDegree(degrees), true));
+        };
+        return new VertexOrder(oldNumbers);
+    }
+
+    public int getNumberOfVertices() {
+        return oldNumbers.length;
+    }
+
+    public int toNew(int originalVertex) {
+        return newNumbers[originalVertex];
+    }
+
+    public int toOriginal(int newVertex) {
+        return oldNumbers[newVertex];
+    }
+
+    /**
+     * @return The new number of every original vertex. The array is shared, not copied.
+     */
+    public int[] getNewNumbers() {
+        return newNumbers;
+    }
+
+    /**
+     * @return The original number of every new vertex. The array is shared, not copied.
+     */
+    public int[] getOriginalNumbers() {
+        return oldNumbers;
+    }
+
+    public AdjacencyArrays apply(AdjacencyArrays adjacency) {
+        return adjacency.renumbered(newNumbers);
+    }
+
+    /**
+     * @return The matrix with its rows and columns moved to the new numbers of their vertices.
+     */
+    public int[][] apply(int[][] matrix) {
+        var n = matrix.length;
+        var renumbered = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            var row = matrix[i];
+            var renumberedRow = renumbered[newNumbers[i]];
+            for (int j = 0; j < n; j++)
+                renumberedRow[newNumbers[j]] = row[j];
+        }
+        return renumbered;
+    }
+
+    /**
+     * @param valuesByNewVertex A value for every vertex by its new number, e.g. BFS levels.
+     * @return The values by the original numbers.
+     */
+    public int[] toOriginalOrder(int[] valuesByNewVertex) {
+        var values = new int[valuesByNewVertex.length];
+        for (int v = 0; v < values.length; v++)
+            values[v] = valuesByNewVertex[newNumbers[v]];
+        return values;
+    }
+
+    /**
+     * @param verticesByNewVertex A vertex for every vertex, both by the new numbers, e.g. parents in a search tree.
+     *                            Negative values mean no vertex and are kept.
+     * @return The vertices by the original numbers, as original numbers.
+     */
+    public int[] toOriginalVertices(int[] verticesByNewVertex) {
+        var vertices = toOriginalOrder(verticesByNewVertex);
+        for (int v = 0; v < vertices.length; v++) {
+            if (vertices[v] >= 0)
+                vertices[v] = oldNumbers[vertices[v]];
+        }
+        return vertices;
+    }
+
+    /**
+     * @return The biggest difference between the numbers of the ends of an arc, which a good order keeps small.
+     */
+    public static int getBandwidth(AdjacencyArrays adjacency) {
+        var offsets = adjacency.getOffsets();
+        var targets = adjacency.getTargets();
+        var bandwidth = 0;
+        for (int v = 0; v < adjacency.getNumberOfVertices(); v++) {
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++)
+                bandwidth = Math.max(bandwidth, Math.abs(targets[arc] - v));
+        }
+        return bandwidth;
+    }
+
+    private static int[] degrees(AdjacencyArrays adjacency, AdjacencyArrays reversed) {
+        var n = adjacency.getNumberOfVertices();
+        var offsets = adjacency.getOffsets();
+        var reversedOffsets = reversed.getOffsets();
+        var degrees = new int[n];
+        for (int v = 0; v < n; v++) {
+            degrees[v] = offsets[v + 1] - offsets[v];
+            if (reversed != adjacency)
+                degrees[v] += reversedOffsets[v + 1] - reversedOffsets[v];
+        }
+        return degrees;
+    }
+
+    /**
+     * @return The vertices by increasing degree, the smaller number first among equal degrees.
+     */
+    private static int[] sortByDegree(int[] degrees) {
+        var maxDegree = 0;
+        for (int degree : degrees)
+            maxDegree = Math.max(maxDegree, degree);
+
+        var starts = new int[maxDegree + 2];
+        for (int degree : degrees)
+            starts[degree + 1]++;
+        for (int d = 0; d <= maxDegree; d++)
+            starts[d + 1] += starts[d];
+
+        var sorted = new int[degrees.length];
+        for (int v = 0; v < degrees.length; v++)
+            sorted[starts[degrees[v]]++] = v;
+        return sorted;
+    }
+
+    /**
+     * Visits every component breadth-first, starting each from the first vertex of the start order not visited yet.
+     * @param byDegree Whether the neighbours of a vertex are queued by increasing degree rather than by number.
+     */
+    private static int[] breadthFirst(AdjacencyArrays adjacency, AdjacencyArrays reversed, int[] degrees,
+                                      int[] startOrder, boolean byDegree) {
+        var n = degrees.length;
+        var queue = new int[n];
+        var visited = new boolean[n];
+        var neighbours = new long[n];
+        int head = 0, tail = 0;
+
+        for (int start : startOrder) {
+            if (visited[start])
+                continue;
+            visited[start] = true;
+            queue[tail++] = start;
+
+            while (head < tail) {
+                var vertex = queue[head++];
+                var count = collect(adjacency, vertex, degrees, visited, neighbours, 0, byDegree);
+                if (reversed != adjacency)
+                    count = collect(reversed, vertex, degrees, visited, neighbours, count, byDegree);
+                Arrays.sort(neighbours, 0, count);
+                for (int i = 0; i < count; i++)
+                    queue[tail++] = (int) neighbours[i];
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Marks the unvisited neighbours of the vertex and adds them as sort keys of the degree or the number
+     * in the upper half and the vertex in the lower half.
+     */
+    private static int collect(AdjacencyArrays adjacency, int vertex, int[] degrees, boolean[] visited,
+                               long[] neighbours, int count, boolean byDegree) {
+        var offsets = adjacency.getOffsets();
+        var targets = adjacency.getTargets();
+        for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+            var target = targets[arc];
+            if (visited[target])
+                continue;
+            visited[target] = true;
+            var key = byDegree ? degrees[target] : target;
+            neighbours[count++] = (long) key << 32 | target;
+        }
+        return count;
+    }
+
+    private static int[] identity(int n) {
+        var numbers = new int[n];
+        for (int v = 0; v < n; v++)
+            numbers[v] = v;
+        return numbers;
+    }
+
+    private static int[] reverse(int[] numbers) {
+        for (int i = 0, j = numbers.length - 1; i < j; i++, j--) {
+            var number = numbers[i];
+            numbers[i] = numbers[j];
+            numbers[j] = number;
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,33 @@
+package graph.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("graph.AlgorithmStep")
+@Label("Algorithm Step")
+@Description("Coloring, recording and publishing of one algorithm step, without the wait for the step controller")
+@Category({"Graph", "Algorithm"})
+public class AlgorithmStepEvent extends Event {
+
+    @Label("Algorithm")
+    public String algorithm;
+
+    @Label("Step")
+    @Description("active, visited or addedToTree")
+    public String step;
+
+    @Label("Edge Id")
+    public int edgeId;
+
+    @Label("Edge Type")
+    public String edgeType;
+
+    @Label("Vertex 1")
+    public int vertex1;
+
+    @Label("Vertex 2")
+    public int vertex2;
+}
@@ -0,0 +1,26 @@
+package graph.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("graph.EdgeGeometry")
+@Label("Edge Geometry")
+@Description("Computation of the edge states of a set of edges")
+@Category({"Graph", "Rendering"})
+public class EdgeGeometryEvent extends Event {
+
+    @Label("Edges")
+    public int numberOfEdges;
+
+    @Label("Lines")
+    public int lines;
+
+    @Label("Arcs")
+    public int arcs;
+
+    @Label("Loops")
+    public int loops;
+}
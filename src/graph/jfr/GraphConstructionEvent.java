@@ -0,0 +1,24 @@
+package graph.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("graph.GraphConstruction")
+@Label("Graph Construction")
+@Description("A phase of building a graph: initMatrices, initVertices or initEdges")
+@Category({"Graph", "Construction"})
+public class GraphConstructionEvent extends Event {
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Vertices")
+    public int numberOfVertices;
+
+    @Label("Edges")
+    @Description("The number of edges after the phase")
+    public int numberOfEdges;
+}
@@ -0,0 +1,62 @@
+package graph.math;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bitsets over vertex numbers stored in long arrays, bit v of word v / 64.
+ */
+public class BitsetHelper {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    public static long[] newBitset(int size) {
+        return new long[wordCount(size)];
+    }
+
+    public static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    public static boolean get(long[] bitset, int index) {
+        return (bitset[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] bitset, int index) {
+        bitset[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Sets the bit atomically, so several threads may set bits of the same word.
+     * @return Whether the bit was not set before, i.e. this call set it.
+     */
+    public static boolean setAtomically(long[] bitset, int index) {
+        long mask = 1L << index;
+        long previous = (long) WORDS.getAndBitwiseOr(bitset, index >>> 6, mask);
+        return (previous & mask) == 0;
+    }
+
+    public static int cardinality(long[] bitset) {
+        int count = 0;
+        for (long word : bitset)
+            count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * @return The number of the first set bit at or after the index, or -1 if there is none.
+     */
+    public static int nextSetBit(long[] bitset, int index) {
+        int wordIndex = index >>> 6;
+        if (wordIndex >= bitset.length)
+            return -1;
+
+        long word = bitset[wordIndex] & (-1L << index);
+        while (word == 0) {
+            if (++wordIndex == bitset.length)
+                return -1;
+            word = bitset[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+}
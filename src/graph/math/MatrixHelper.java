@@ -91,7 +91,7 @@ public class MatrixHelper {
         transitiveClosure = union(transitiveClosure, powMatrix);
 
         for (int i = 2; i < len; i++) {
-            powMatrix = multiply(powMatrix, relationMatrix);
+            powMatrix = booleanTransform(multiply(powMatrix, relationMatrix));
             transitiveClosure = union(transitiveClosure, powMatrix);
         }
 
@@ -0,0 +1,27 @@
+package graph.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free monotonic counter. Increments from many threads do not contend on one cache line.
+ */
+public class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long get() {
+        return count.sum();
+    }
+
+    public void reset() {
+        count.reset();
+    }
+}
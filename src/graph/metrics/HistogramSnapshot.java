@@ -0,0 +1,51 @@
+package graph.metrics;
+
+/**
+ * The state of a {@link LatencyHistogram} at some moment. All values are in nanoseconds.
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long total, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * @param percentile From 0 to 100, e.g. 99.9.
+     * @return The smallest recorded value that is not exceeded by the given percentage of values, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0)
+            return 0;
+        if (percentile >= 100)
+            return max;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(LatencyHistogram.valueOf(i), max);
+        }
+        return max;
+    }
+}
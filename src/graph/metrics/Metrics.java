@@ -0,0 +1,75 @@
+package graph.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the always-on metrics of the application.
+ * Metrics are created on first use and live as long as the application.
+ * Reading them is safe from any thread while they are being updated.
+ */
+public class Metrics {
+
+    /** The time an algorithm spends on one step, without the wait for the step controller. */
+    public static final String ALGORITHM_STEP = "algorithm.step";
+    /** The time of one paint of the graph canvas. */
+    public static final String REPAINT = "canvas.repaint";
+    /** Paints that reused the computed edge geometry. */
+    public static final String GEOMETRY_CACHE_HITS = "canvas.geometry.hits";
+    /** Paints that had to request new edge geometry because the graph changed. */
+    public static final String GEOMETRY_CACHE_MISSES = "canvas.geometry.misses";
+    /** Analyses of a graph answered from its cache. */
+    public static final String ANALYSIS_CACHE_HITS = "graph.analysis.hits";
+    /** Analyses of a graph that had to be calculated because the graph changed or the result was evicted. */
+    public static final String ANALYSIS_CACHE_MISSES = "graph.analysis.misses";
+    /** Added or removed edges and switches of the shown edge set. */
+    public static final String GRAPH_MUTATIONS = "graph.mutations";
+
+    private static final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public static LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * @return The current values of all the counters sorted by name.
+     */
+    public static Map<String, Long> counterValues() {
+        var values = new TreeMap<String, Long>();
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @return The snapshots of all the histograms sorted by name.
+     */
+    public static Map<String, HistogramSnapshot> histogramSnapshots() {
+        var snapshots = new TreeMap<String, HistogramSnapshot>();
+        histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * @return The share of the paints that reused the edge geometry, from 0 to 1.
+     */
+    public static double getGeometryCacheHitRate() {
+        long hits = counter(GEOMETRY_CACHE_HITS).get();
+        long total = hits + counter(GEOMETRY_CACHE_MISSES).get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Starts a new measurement interval for all the metrics.
+     */
+    public static void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+}
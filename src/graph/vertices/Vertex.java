@@ -2,11 +2,9 @@ package graph.vertices;
 
 import graph.math.Point;
 
-import javax.swing.*;
-import java.awt.*;
 import java.util.Objects;
 
-public class Vertex extends JComponent {
+public class Vertex {
 
 
     public static final int RADIUS = 25;
@@ -17,8 +15,6 @@ public class Vertex extends JComponent {
 
     public Point startPoint;
     private int number;
-    private Color fillColor = Color.WHITE;
-    private Color strokeColor = Color.BLUE;
 
     public Vertex(int number, int x, int y) {
         this.number = number;
@@ -28,20 +24,6 @@ public class Vertex extends JComponent {
         this.startPoint = new Point(x - RADIUS, y - RADIUS);
     }
 
-    @Override
-    public void paintComponent(Graphics g) {
-        g.setColor(fillColor);
-        g.fillOval(startPoint.x(), startPoint.y(), DIAMETER, DIAMETER);
-
-        g.setColor(strokeColor);
-        g.drawOval(startPoint.x(), startPoint.y(), DIAMETER, DIAMETER);
-
-        int magicNumber = 6;
-        g.setFont(new Font("Arial", Font.PLAIN, 24));
-        g.setColor(Color.BLACK);
-        g.drawString(String.valueOf(number), x - magicNumber, y + magicNumber);
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -58,8 +40,4 @@ public class Vertex extends JComponent {
     public int getNumber() {
         return number;
     }
-
-    public void setFillColor(Color fillColor) {
-        this.fillColor = fillColor;
-    }
 }
@@ -0,0 +1,160 @@
+package main;
+
+import graph.algorithms.AlgorithmTimeline;
+import graph.algorithms.StepController;
+import graph.graph.RenderBuffer;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Grants algorithm steps at a target rate and repaints at most once per frame.
+ * When painting falls behind, the steps due for the elapsed time are coalesced into one repaint.
+ * After seeking back in the timeline, playback replays the recorded steps until it reaches the algorithm again.
+ */
+public class AutoPlayScheduler {
+
+    private static final int FRAME_DELAY = 16;
+    private static final double MAX_FRAME_TIME = 0.25;
+    private static final int LIVE = -1;
+
+    private final Component canvas;
+    private final Timer timer;
+    private StepController controller;
+    private AlgorithmTimeline timeline;
+    private RenderBuffer renderBuffer;
+    private Runnable frameListener = () -> {};
+    private boolean playing = false;
+    private double stepsPerSecond = 10;
+    private double dueSteps;
+    private long lastTick;
+    private long paintedSteps;
+    private int replayPosition = LIVE;
+
+    public AutoPlayScheduler(Component canvas) {
+        this.canvas = canvas;
+        timer = new Timer(FRAME_DELAY, (action) -> tick());
+        timer.setCoalesce(true);
+    }
+
+    public void attach(StepController controller, AlgorithmTimeline timeline, RenderBuffer renderBuffer) {
+        this.controller = controller;
+        this.timeline = timeline;
+        this.renderBuffer = renderBuffer;
+        dueSteps = 0;
+        paintedSteps = 0;
+        replayPosition = LIVE;
+        lastTick = System.nanoTime();
+        timer.start();
+    }
+
+    public void play() {
+        playing = true;
+        lastTick = System.nanoTime();
+    }
+
+    public void pause() {
+        playing = false;
+        dueSteps = 0;
+        if (controller != null)
+            controller.revoke();
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public void step() {
+        if (controller == null)
+            return;
+
+        if (replayPosition == LIVE)
+            controller.grant(1);
+        else
+            replay(1);
+    }
+
+    /**
+     * Pauses the playback and shows the colors after the given number of steps.
+     */
+    public void seek(int step) {
+        if (timeline == null)
+            return;
+
+        pause();
+        replayPosition = step;
+        replay(0);
+    }
+
+    /**
+     * @return The number of steps that are shown.
+     */
+    public int getPosition() {
+        if (timeline == null)
+            return 0;
+        return replayPosition == LIVE ? timeline.getStepCount() : replayPosition;
+    }
+
+    public int getStepCount() {
+        return timeline == null ? 0 : timeline.getStepCount();
+    }
+
+    public void setStepsPerSecond(double stepsPerSecond) {
+        this.stepsPerSecond = stepsPerSecond;
+    }
+
+    /**
+     * @param frameListener Called on the event dispatch thread after every frame of the scheduler.
+     */
+    public void setFrameListener(Runnable frameListener) {
+        this.frameListener = frameListener;
+    }
+
+    public void stop() {
+        pause();
+        timer.stop();
+        controller = null;
+        timeline = null;
+        renderBuffer = null;
+        replayPosition = LIVE;
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        double elapsed = Math.min((now - lastTick) / 1e9, MAX_FRAME_TIME);
+        lastTick = now;
+
+        if (controller == null)
+            return;
+
+        if (playing) {
+            dueSteps += elapsed * stepsPerSecond;
+            int steps = (int) dueSteps;
+            dueSteps -= steps;
+
+            if (replayPosition != LIVE)
+                replay(steps);
+            else if (controller.getPendingSteps() < steps)
+                controller.grant(steps);
+        }
+
+        long completedSteps = controller.getCompletedSteps();
+        if (completedSteps != paintedSteps) {
+            paintedSteps = completedSteps;
+            canvas.repaint();
+        }
+        frameListener.run();
+    }
+
+    /**
+     * Moves the replay position forward. The algorithm stays blocked until the position reaches
+     * the last recorded step, which also restores the colors it has published.
+     */
+    private void replay(int steps) {
+        replayPosition = Math.min(replayPosition + steps, timeline.getStepCount());
+        renderBuffer.publish(timeline.seek(replayPosition));
+        if (replayPosition == timeline.getStepCount())
+            replayPosition = LIVE;
+        canvas.repaint();
+    }
+}
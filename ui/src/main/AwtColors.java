@@ -0,0 +1,16 @@
+package main;
+
+import java.awt.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts the colors of the model to AWT colors, reusing one instance per color.
+ */
+public class AwtColors {
+
+    private static final ConcurrentHashMap<Integer, Color> COLORS = new ConcurrentHashMap<>();
+
+    public static Color of(int rgb) {
+        return COLORS.computeIfAbsent(rgb, Color::new);
+    }
+}
@@ -0,0 +1,79 @@
+package main;
+
+import graph.edges.Edge;
+import graph.edges.states.ArcEdge;
+import graph.edges.states.EdgeState;
+import graph.edges.states.LineEdge;
+import graph.edges.states.LoopEdge;
+import graph.math.Point;
+
+import java.awt.*;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Point2D;
+
+public class EdgePainter {
+
+    private static final float FONT_SIZE = 12.0f;
+
+    public static void paint(Graphics g, Edge edge, EdgeState state, Color color) {
+        g.setColor(color);
+
+        if (state instanceof ArcEdge arc)
+            drawArc((Graphics2D) g, arc);
+        else if (state instanceof LoopEdge loop)
+            drawLoop(g, loop);
+        else if (state instanceof LineEdge line)
+            drawLine(g, line);
+
+        if (edge.isDirected())
+            drawArrow(g, state);
+        if (edge.isWeighted())
+            drawWeight(g, state);
+    }
+
+    private static void drawArc(Graphics2D g, ArcEdge state) {
+        var vertex1 = state.getVertex1();
+        var vertex2 = state.getVertex2();
+        Point2D vertex1Center = new Point2D.Double(vertex1.x, vertex1.y);
+        Point2D tangentPoint = new Point2D.Double(state.getTangentPoint().x(), state.getTangentPoint().y());
+        Point2D vertex2Center = new Point2D.Double(vertex2.x, vertex2.y);
+
+        Arc2D arc = new Arc2D.Double();
+        arc.setArcByTangent(vertex1Center,
+                tangentPoint,
+                vertex2Center,
+                state.getArcRadius());
+        g.draw(arc);
+    }
+
+    private static void drawLoop(Graphics g, LoopEdge state) {
+        var loopCenter = state.getLoopCenter();
+        int loopRadius = state.getLoopRadius();
+        g.drawOval(loopCenter.x() - loopRadius, loopCenter.y() - loopRadius, 2*loopRadius, 2*loopRadius);
+    }
+
+    private static void drawLine(Graphics g, LineEdge state) {
+        g.drawLine(state.getStartPoint().x(), state.getStartPoint().y(),
+                state.getEndPoint().x(), state.getEndPoint().y());
+    }
+
+    private static void drawArrow(Graphics g, EdgeState state) {
+        drawArrowPart(g, state.getEndPoint(), state.getArrowPoint1());
+        drawArrowPart(g, state.getEndPoint(), state.getArrowPoint2());
+    }
+
+    private static void drawArrowPart(Graphics g, Point p, Point arrowPoint) {
+        if (p == null || arrowPoint == null)
+            return;
+        g.drawLine(p.x(), p.y(), arrowPoint.x(), arrowPoint.y());
+    }
+
+    private static void drawWeight(Graphics g, EdgeState state) {
+        if (state.getWeightPoint() == null)
+            return;
+        Font currentFont = g.getFont();
+        Font newFont = currentFont.deriveFont(FONT_SIZE);
+        g.setFont(newFont);
+        g.drawString(String.valueOf(state.getWeight()), state.getWeightPoint().x(), state.getWeightPoint().y());
+    }
+}
@@ -0,0 +1,105 @@
+package main;
+
+import graph.edges.EdgeGeometry;
+import graph.edges.EdgeGeometryPipeline;
+import graph.graph.Graph;
+import graph.metrics.Counter;
+import graph.metrics.LatencyHistogram;
+import graph.metrics.Metrics;
+import graph.vertices.Vertex;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Paints a graph with the colors of its render buffer.
+ * The geometry of the edges is computed in the background whenever the graph changes.
+ */
+public class GraphCanvas extends JComponent {
+
+    private static final LatencyHistogram REPAINT = Metrics.histogram(Metrics.REPAINT);
+    private static final Counter GEOMETRY_HITS = Metrics.counter(Metrics.GEOMETRY_CACHE_HITS);
+    private static final Counter GEOMETRY_MISSES = Metrics.counter(Metrics.GEOMETRY_CACHE_MISSES);
+
+    private final Graph graph;
+    private volatile EdgeGeometry geometry = EdgeGeometry.EMPTY;
+    private volatile long geometryVersion = -1;
+    private volatile int geometryRequest = 0;
+
+    public GraphCanvas(Graph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        var event = new PaintFrameEvent();
+        event.begin();
+
+        boolean stale = geometryVersion != graph.getModificationCount();
+        if (stale) {
+            GEOMETRY_MISSES.increment();
+            updateGeometry();
+        } else {
+            GEOMETRY_HITS.increment();
+        }
+
+        var geometry = this.geometry;
+        var snapshot = graph.getRenderBuffer().front();
+        for (int i = 0; i < geometry.size(); i++) {
+            var edge = geometry.getEdge(i);
+            EdgePainter.paint(g, edge, geometry.getState(i), AwtColors.of(snapshot.getEdgeColor(edge.getId())));
+        }
+        for (var vertex : graph.getVertices())
+            VertexPainter.paint(g, vertex, AwtColors.of(snapshot.getVertexColor(vertex.getNumber())));
+
+        if (event.shouldCommit()) {
+            event.vertices = graph.getVertices().size();
+            event.edges = geometry.size();
+            event.staleGeometry = stale;
+            event.commit();
+        }
+        REPAINT.recordSince(start);
+    }
+
+    /**
+     * Starts the background geometry computation for the current edges.
+     * The previous buffer keeps being painted until the new one is delivered to the event dispatch thread.
+     * @return The future that completes when the new geometry is painted or replaced by a newer request.
+     */
+    public CompletableFuture<Void> updateGeometry() {
+        geometryVersion = graph.getModificationCount();
+        int request = ++geometryRequest;
+        var installed = new CompletableFuture<Void>();
+
+        EdgeGeometryPipeline.compute(graph.getCurrentEdges())
+                .thenAccept(computed -> SwingUtilities.invokeLater(() -> {
+                    if (request == geometryRequest) {
+                        geometry = computed;
+                        repaint();
+                    }
+                    installed.complete(null);
+                }));
+
+        return installed;
+    }
+
+    /**
+     * @return The vertex drawn at the point, or null if there is none.
+     */
+    public Vertex getVertexAt(int x, int y) {
+        for (var vertex : graph.getVertices())
+            if (Math.hypot(vertex.center.x() - x, vertex.center.y() - y) <= Vertex.RADIUS)
+                return vertex;
+        return null;
+    }
+
+    public Graph getGraph() {
+        return graph;
+    }
+
+    public EdgeGeometry getGeometry() {
+        return geometry;
+    }
+}
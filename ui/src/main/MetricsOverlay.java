@@ -0,0 +1,78 @@
+package main;
+
+import graph.metrics.HistogramSnapshot;
+import graph.metrics.Metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A transparent panel that shows the live metrics over the window, meant to be the glass pane of the frame.
+ * It is refreshed twice a second while visible and does not take the mouse events.
+ */
+public class MetricsOverlay extends JComponent {
+
+    private static final int REFRESH_MILLIS = 500;
+    private static final int PADDING = 8;
+    private static final int LINE_HEIGHT = 16;
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+
+    private final Timer timer = new Timer(REFRESH_MILLIS, event -> refresh());
+    private List<String> lines = List.of();
+    private long lastMutations = Metrics.counter(Metrics.GRAPH_MUTATIONS).get();
+    private long lastRefresh = System.nanoTime();
+
+    public MetricsOverlay() {
+        setOpaque(false);
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        super.setVisible(visible);
+        if (visible) {
+            refresh();
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = 0;
+        var metrics = g.getFontMetrics();
+        for (var line : lines)
+            width = Math.max(width, metrics.stringWidth(line));
+
+        g.setColor(BACKGROUND);
+        g.fillRect(PADDING, PADDING, width + 2*PADDING, lines.size()*LINE_HEIGHT + PADDING);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < lines.size(); i++)
+            g.drawString(lines.get(i), 2*PADDING, PADDING + (i + 1)*LINE_HEIGHT);
+    }
+
+    private void refresh() {
+        long now = System.nanoTime();
+        long mutations = Metrics.counter(Metrics.GRAPH_MUTATIONS).get();
+        double mutationsPerSecond = (mutations - lastMutations) * 1e9 / Math.max(1, now - lastRefresh);
+        lastMutations = mutations;
+        lastRefresh = now;
+
+        var lines = new ArrayList<String>();
+        lines.add(latencyLine("Step", Metrics.histogram(Metrics.ALGORITHM_STEP).snapshot()));
+        lines.add(latencyLine("Frame", Metrics.histogram(Metrics.REPAINT).snapshot()));
+        lines.add(String.format(Locale.ROOT, "Geometry cache hits: %.1f%%", 100 * Metrics.getGeometryCacheHitRate()));
+        lines.add(String.format(Locale.ROOT, "Graph mutations: %d (%.1f/s)", mutations, mutationsPerSecond));
+        this.lines = lines;
+        repaint();
+    }
+
+    private static String latencyLine(String name, HistogramSnapshot snapshot) {
+        return String.format(Locale.ROOT, "%s: n=%d p50=%.3f p99=%.3f p99.9=%.3f max=%.3f ms", name, snapshot.getCount(),
+                snapshot.getPercentile(50) / 1e6, snapshot.getPercentile(99) / 1e6,
+                snapshot.getPercentile(99.9) / 1e6, snapshot.getMax() / 1e6);
+    }
+}
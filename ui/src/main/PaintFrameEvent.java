@@ -0,0 +1,24 @@
+package main;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("graph.PaintFrame")
+@Label("Paint Frame")
+@Description("One paintComponent call of the graph canvas")
+@Category({"Graph", "Rendering"})
+public class PaintFrameEvent extends Event {
+
+    @Label("Vertices")
+    public int vertices;
+
+    @Label("Edges")
+    public int edges;
+
+    @Label("Stale Geometry")
+    @Description("The graph changed since the painted geometry was computed")
+    public boolean staleGeometry;
+}
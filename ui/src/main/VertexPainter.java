@@ -0,0 +1,26 @@
+package main;
+
+import graph.vertices.Vertex;
+
+import java.awt.*;
+
+public class VertexPainter {
+
+    private static final Color STROKE_COLOR = Color.BLUE;
+    private static final Font FONT = new Font("Arial", Font.PLAIN, 24);
+
+    public static void paint(Graphics g, Vertex vertex, Color fillColor) {
+        var startPoint = vertex.startPoint;
+
+        g.setColor(fillColor);
+        g.fillOval(startPoint.x(), startPoint.y(), Vertex.DIAMETER, Vertex.DIAMETER);
+
+        g.setColor(STROKE_COLOR);
+        g.drawOval(startPoint.x(), startPoint.y(), Vertex.DIAMETER, Vertex.DIAMETER);
+
+        int magicNumber = 6;
+        g.setFont(FONT);
+        g.setColor(Color.BLACK);
+        g.drawString(String.valueOf(vertex.getNumber()), vertex.x - magicNumber, vertex.y + magicNumber);
+    }
+}
@@ -0,0 +1,291 @@
+package main;
+
+import graph.algorithms.*;
+import graph.graph.Colors;
+import graph.graph.Graph;
+import graph.vertices.Vertex;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.*;
+import java.util.concurrent.Future;
+
+public class View extends JFrame {
+
+    public static final double K = 1.0 - 2*0.01 - 0*0.005 - 0.05;
+    private static final int DEFAULT_STEPS_PER_SECOND = 10;
+    private static final int MAX_STEPS_PER_SECOND = 1_000_000;
+    private Graph graph = new Graph(K);
+    private GraphCanvas graphCanvas = new GraphCanvas(graph);
+    private JButton switchGraphTypeButton, BFSAlgorithmButton, DFSAlgorithmButton, kruskalAlgorithmButton, dijkstraAlgorithmButton, nextStepButton, playButton, clearButton, resetButton;
+    private JToggleButton metricsButton, routeButton;
+    private JCheckBox bfsByLevelsCheckBox;
+    private JLabel routeLabel;
+    private int routeSource = -1;
+    private final MetricsOverlay metricsOverlay = new MetricsOverlay();
+    private JSpinner speedSpinner;
+    private JSlider timelineSlider;
+    private boolean updatingTimelineSlider = false;
+    private Future<?> currentAlgorithm;
+    private final AlgorithmExecutor executor = new AlgorithmExecutor();
+    private AutoPlayScheduler scheduler = new AutoPlayScheduler(graphCanvas);
+    private JPanel buttonPanel, graphPanel;
+
+
+    public View(String title) throws HeadlessException {
+        super(title);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setSize(1600, 900);
+        graphCanvas.setVisible(true);
+
+        initButtons();
+        addActionListenersToButtons();
+
+        buttonPanel = new JPanel() {{
+            add(switchGraphTypeButton);
+            add(BFSAlgorithmButton);
+            add(bfsByLevelsCheckBox);
+            add(DFSAlgorithmButton);
+            add(kruskalAlgorithmButton);
+            add(dijkstraAlgorithmButton);
+            add(routeButton);
+            add(nextStepButton);
+            add(playButton);
+            add(new JLabel("Steps per second:"));
+            add(speedSpinner);
+            add(clearButton);
+            add(resetButton);
+            add(metricsButton);
+            add(routeLabel);
+        }};
+
+        graphPanel = new JPanel(new CardLayout()) {{
+            add(graphCanvas);
+        }};
+
+        getContentPane().add(buttonPanel, BorderLayout.NORTH);
+        getContentPane().add(graphPanel, BorderLayout.CENTER);
+        getContentPane().add(timelineSlider, BorderLayout.SOUTH);
+        setGlassPane(metricsOverlay);
+        setVisible(true);
+    }
+
+    private void initButtons() {
+        switchGraphTypeButton = new JButton("Switch the graph type");
+        nextStepButton = new JButton("Next step");
+        playButton = new JButton("Play");
+        speedSpinner = new JSpinner(new SpinnerNumberModel(DEFAULT_STEPS_PER_SECOND, 1, MAX_STEPS_PER_SECOND, DEFAULT_STEPS_PER_SECOND));
+        timelineSlider = new JSlider(0, 0, 0);
+        kruskalAlgorithmButton = new JButton("Start Kruskal algorithm");
+        BFSAlgorithmButton = new JButton("Start BFS algorithm");
+        bfsByLevelsCheckBox = new JCheckBox("By levels");
+        DFSAlgorithmButton = new JButton("Start DFS algorithm");
+        dijkstraAlgorithmButton = new JButton("Start Dijkstra algorithm");
+        clearButton = new JButton("Clear");
+        resetButton = new JButton("Reset");
+        metricsButton = new JToggleButton("Metrics");
+        routeButton = new JToggleButton("A* route");
+        routeLabel = new JLabel();
+    }
+
+    private void addActionListenersToButtons() {
+        switchGraphTypeButton.addActionListener((action) -> {
+            Arrays.stream(graphPanel.getComponents())
+                    .filter(Component::isVisible)
+                    .map(component -> ((GraphCanvas) component).getGraph())
+                    .forEach(Graph::switchEdges);
+            repaint();
+        });
+        kruskalAlgorithmButton.addActionListener((action) -> startAlgorithm(new KruskalAlgorithm(graph)));
+        BFSAlgorithmButton.addActionListener((action) -> startAlgorithm(new BFSAlgorithm(graph, bfsByLevelsCheckBox.isSelected())));
+        DFSAlgorithmButton.addActionListener((action) -> startAlgorithm(new DFSAlgorithm(graph)));
+        dijkstraAlgorithmButton.addActionListener((action) -> startAlgorithm(new DijkstraAlgorithm(graph)));
+        nextStepButton.addActionListener((action) -> scheduler.step());
+        playButton.addActionListener((action) -> {
+            if (scheduler.isPlaying())
+                scheduler.pause();
+            else
+                scheduler.play();
+            playButton.setText(scheduler.isPlaying() ? "Pause" : "Play");
+        });
+        speedSpinner.addChangeListener((event) -> scheduler.setStepsPerSecond((Integer) speedSpinner.getValue()));
+        scheduler.setStepsPerSecond(DEFAULT_STEPS_PER_SECOND);
+        scheduler.setFrameListener(this::updateTimelineSlider);
+        timelineSlider.addChangeListener((event) -> {
+            if (updatingTimelineSlider || scheduler.getPosition() == timelineSlider.getValue())
+                return;
+            scheduler.seek(timelineSlider.getValue());
+            playButton.setText("Play");
+        });
+        clearButton.addActionListener((action) -> {
+            clear(graph);
+            repaint();
+        });
+        resetButton.addActionListener((action) -> {
+            stopAlgorithm();
+            clear(graph);
+            repaint();
+        });
+        metricsButton.addActionListener((action) -> metricsOverlay.setVisible(metricsButton.isSelected()));
+        routeButton.addActionListener((action) -> {
+            routeSource = -1;
+            routeLabel.setText(routeButton.isSelected() ? "Click the start vertex" : "");
+        });
+        graphCanvas.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent event) {
+                if (routeButton.isSelected())
+                    selectRouteVertex(graphCanvas.getVertexAt(event.getX(), event.getY()));
+            }
+        });
+    }
+
+    private void startAlgorithm(Algorithm algorithm) {
+        stopAlgorithm();
+        clear(graph);
+        scheduler.attach(algorithm.getController(), algorithm.getTimeline(), graph.getRenderBuffer());
+        currentAlgorithm = executor.submit(algorithm);
+    }
+
+    private void selectRouteVertex(Vertex vertex) {
+        if (vertex == null)
+            return;
+
+        if (routeSource < 0) {
+            routeSource = vertex.getNumber();
+            routeLabel.setText("Click the end vertex");
+            return;
+        }
+
+        var algorithm = new AStarAlgorithm(graph, routeSource, vertex.getNumber());
+        routeSource = -1;
+        routeLabel.setText("Searching...");
+        startAlgorithm(algorithm);
+
+        var search = currentAlgorithm;
+        Thread.ofVirtual().start(() -> {
+            try {
+                search.get();
+            } catch (Exception e) {
+                return;
+            }
+            var path = algorithm.getPath();
+            String text = path.isFound()
+                    ? String.format("Distance %d, %d of %d vertices expanded", path.getDistance(),
+                            path.getExpandedVertices(), graph.getVertices().size())
+                    : String.format("No path, %d vertices expanded", path.getExpandedVertices());
+            SwingUtilities.invokeLater(() -> routeLabel.setText(text));
+        });
+    }
+
+    private void stopAlgorithm() {
+        if (currentAlgorithm == null)
+            return;
+        currentAlgorithm.cancel(true);
+        currentAlgorithm = null;
+        scheduler.stop();
+        playButton.setText("Play");
+        updateTimelineSlider();
+    }
+
+    private void updateTimelineSlider() {
+        updatingTimelineSlider = true;
+        timelineSlider.setMaximum(scheduler.getStepCount());
+        timelineSlider.setValue(scheduler.getPosition());
+        updatingTimelineSlider = false;
+    }
+
+    public void clear(Graph graph) {
+        graph.getRenderBuffer().clear();
+        repaint();
+    }
+
+    public Graph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Also stops the running algorithm and its executor, since nothing can show its steps anymore.
+     */
+    @Override
+    public void dispose() {
+        stopAlgorithm();
+        executor.close();
+        super.dispose();
+    }
+
+
+
+
+    public static void main(String[] args) {
+        SwingUtilities.invokeLater(() -> new View("Graph"));
+//
+//        System.out.println("Undirected graph matrix:");
+//        printMatrix(view.initialGraph.getUndirectedGraphMatrix());
+//        System.out.println();
+//
+//        System.out.println("Weights matrix:");
+//        printMatrix(view.initialGraph.getWeightsMatrix());
+//        System.out.println();
+
+//        var MSTGraph = view.kruskalAlgorithm(view.initialGraph);
+//        System.out.printf("Total minimum spanning tree weight: %d", getTotalEdgeWeight(MSTGraph));
+    }
+
+
+
+
+    private void hideAllEdges(Graph graph) {
+        var renderBuffer = graph.getRenderBuffer();
+        graph.getDirectedEdges().forEach(edge -> renderBuffer.setEdgeColor(edge.getId(), Colors.LIGHT_GRAY));
+        renderBuffer.publish();
+        repaint();
+    }
+
+    private void showAllEdges(Graph graph) {
+        var renderBuffer = graph.getRenderBuffer();
+        graph.getDirectedEdges().forEach(edge -> renderBuffer.setEdgeColor(edge.getId(), Colors.BLACK));
+        renderBuffer.publish();
+        repaint();
+    }
+
+
+//    private void showKistyak(Graph graph, ArrayList<Edge> kistyakEdges) {
+//        kistyakEdges.forEach(edge -> {
+//            setEdgeToTree(edge);
+//            edge.setVisible(true);
+//        });
+//        graph.getVertices().forEach(vertex -> {
+//            setVisited(vertex);
+//            vertex.setVisible(true);
+//        });
+//    }
+
+
+
+
+    public static void printMatrix(int[][] matrix) {
+        Arrays.stream(matrix)
+                .map(Arrays::toString)
+                .forEach(System.out::println);
+    }
+
+    public static void printMatrix(double[][] matrix) {
+        Arrays.stream(matrix)
+                .map(Arrays::toString)
+                .forEach(System.out::println);
+    }
+
+    public static void printStronglyConnectedComponents(ArrayList<ArrayList<Integer>> componentsList) {
+        for (int i = 0; i < componentsList.size(); i++) {
+            System.out.println(i + 1 + " component:");
+            System.out.print("Vertices: ");
+            for (int j = 0; j < componentsList.get(i).size(); j++) {
+                System.out.print(componentsList.get(i).get(j) + " ");
+            }
+            System.out.println();
+        }
+    }
+}
\ No newline at end of file